@@ -60,6 +60,24 @@ def try_import_module(module_name, proto_path, gen_dir):
         return None
 
 
+def resolve_sparse_snapshots(message):
+    """Fills in the fields a snapshot marks unchanged from the previous snapshot.
+
+    Sparse snapshots omit every monitor that wasn't collected again since the previous snapshot and set
+    bit N of unchangedFields for each omitted field N. Readers carry the last value forward, as
+    SnapshotStore.View.getResolvedSnapshot does; the first snapshot of a report is always complete.
+    """
+    previous = None
+    for snapshot in message.snapshots:
+        mask = snapshot.unchangedFields
+        if previous is not None and mask:
+            for number, field in snapshot.DESCRIPTOR.fields_by_number.items():
+                if mask & (1 << number) and previous.HasField(field.name):
+                    getattr(snapshot, field.name).CopyFrom(getattr(previous, field.name))
+        snapshot.ClearField("unchangedFields")
+        previous = snapshot
+
+
 def main():
     parser = argparse.ArgumentParser(description="Convert .flarereport protobuf+zstd to JSON.")
     parser.add_argument("input", help="Path to .flarereport")
@@ -79,6 +97,11 @@ def main():
         default=None,
         help="Directory to place generated protobuf code (defaults to temp dir)",
     )
+    parser.add_argument(
+        "--keep-sparse",
+        action="store_true",
+        help="Write snapshots as stored, with unchanged fields omitted and flagged in unchangedFields",
+    )
     args = parser.parse_args()
 
     try:
@@ -109,6 +132,8 @@ def main():
 
     message = module.ProfilerData()
     message.ParseFromString(decompressed)
+    if not args.keep_sparse:
+        resolve_sparse_snapshots(message)
 
     data = json_format.MessageToDict(message, preserving_proto_field_name=True)
     output_path.write_text(json.dumps(data, indent=2))
@@ -1,6 +1,7 @@
 package com.nodecraft.hytale.flare;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 
@@ -9,13 +10,25 @@ import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 import com.hypixel.hytale.server.core.util.Config;
 import com.nodecraft.hytale.flare.commands.DiagnosticsCommand;
 import com.nodecraft.hytale.flare.config.FlareConfig;
+import com.nodecraft.hytale.flare.monitoring.AllocationMonitor;
+import com.nodecraft.hytale.flare.monitoring.ContainerMonitor;
 import com.nodecraft.hytale.flare.monitoring.CpuMonitor;
 import com.nodecraft.hytale.flare.monitoring.GcMonitor;
 import com.nodecraft.hytale.flare.monitoring.HeapMonitor;
+import com.nodecraft.hytale.flare.monitoring.IoMonitor;
+import com.nodecraft.hytale.flare.monitoring.JfrEventStream;
+import com.nodecraft.hytale.flare.monitoring.JitMonitor;
+import com.nodecraft.hytale.flare.monitoring.Monitor;
+import com.nodecraft.hytale.flare.monitoring.MonitorRegistry;
 import com.nodecraft.hytale.flare.monitoring.NetworkMonitor;
+import com.nodecraft.hytale.flare.monitoring.OffHeapMonitor;
+import com.nodecraft.hytale.flare.monitoring.QueueLatencyMonitor;
+import com.nodecraft.hytale.flare.monitoring.SafepointMonitor;
+import com.nodecraft.hytale.flare.monitoring.SystemTimings;
 import com.nodecraft.hytale.flare.monitoring.ThreadMonitor;
 import com.nodecraft.hytale.flare.monitoring.TpsMonitor;
 import com.nodecraft.hytale.flare.monitoring.WorldMonitor;
+import com.nodecraft.hytale.flare.monitoring.WorldTickCapture;
 import com.nodecraft.hytale.flare.profiler.PerformanceProfiler;
 
 public class FlarePlugin extends JavaPlugin {
@@ -30,6 +43,17 @@ public class FlarePlugin extends JavaPlugin {
     private CpuMonitor cpuMonitor;
     private NetworkMonitor networkMonitor;
     private WorldMonitor worldMonitor;
+    private AllocationMonitor allocationMonitor;
+    private OffHeapMonitor offHeapMonitor;
+    private ContainerMonitor containerMonitor;
+    private QueueLatencyMonitor queueLatencyMonitor;
+    private JitMonitor jitMonitor;
+    private SafepointMonitor safepointMonitor;
+    private IoMonitor ioMonitor;
+    private JfrEventStream jfrEvents;
+    private WorldTickCapture tickCapture;
+    private MonitorRegistry monitorRegistry;
+    private SystemTimings systemTimings;
     private PerformanceProfiler profiler;
     private DiagnosticsCommand diagnosticsCommand;
 
@@ -44,13 +68,35 @@ public class FlarePlugin extends JavaPlugin {
         this.config = this._config.get();
 
         // Initialize monitors
-        this.heapMonitor = new HeapMonitor(config.getHeapMonitorConfig());
+        this.tickCapture = new WorldTickCapture();
+        this.monitorRegistry = new MonitorRegistry();
+        this.systemTimings = new SystemTimings(config.getSystemTimingConfig());
         this.gcMonitor = new GcMonitor(config.getGcMonitorConfig());
+        this.heapMonitor = new HeapMonitor(config.getHeapMonitorConfig(), gcMonitor);
         this.threadMonitor = new ThreadMonitor(config.getThreadMonitorConfig());
-        this.tpsMonitor = new TpsMonitor(config.getTpsMonitorConfig(), getLogger());
+        this.tpsMonitor = new TpsMonitor(config.getTpsMonitorConfig(), tickCapture, getLogger());
         this.cpuMonitor = new CpuMonitor(config.getCpuMonitorConfig());
         this.networkMonitor = new NetworkMonitor(config.getNetworkMonitorConfig());
-        this.worldMonitor = new WorldMonitor(config.getWorldMonitorConfig());
+        this.worldMonitor = new WorldMonitor(
+                config.getWorldMonitorConfig(),
+                config.getEntityCensusConfig(),
+                tickCapture,
+                systemTimings
+        );
+        this.allocationMonitor = new AllocationMonitor(config.getAllocationMonitorConfig());
+        this.offHeapMonitor = new OffHeapMonitor(config.getOffHeapMonitorConfig());
+        this.containerMonitor = new ContainerMonitor(config.getContainerMonitorConfig());
+        this.queueLatencyMonitor = new QueueLatencyMonitor(config.getQueueLatencyMonitorConfig());
+        this.jfrEvents = new JfrEventStream();
+        this.jitMonitor = new JitMonitor(config.getJitMonitorConfig(), jfrEvents);
+        this.safepointMonitor = new SafepointMonitor(config.getSafepointMonitorConfig(), jfrEvents);
+        this.ioMonitor = new IoMonitor(config.getIoMonitorConfig());
+        for (Monitor<?> monitor : List.of(
+                heapMonitor, gcMonitor, threadMonitor, tpsMonitor, cpuMonitor, networkMonitor, worldMonitor,
+                allocationMonitor, offHeapMonitor, containerMonitor, queueLatencyMonitor, jitMonitor,
+                safepointMonitor, ioMonitor)) {
+            monitorRegistry.registerBuiltIn(monitor);
+        }
 
         // Initialize profiler
         // Profiles will be stored in mods/Flare/profiles/
@@ -61,13 +107,8 @@ public class FlarePlugin extends JavaPlugin {
         this.profiler = new PerformanceProfiler(
                 getLogger().getSubLogger("Profiler"),
                 config.getProfilerConfig(),
-                heapMonitor,
-                gcMonitor,
-                threadMonitor,
-                tpsMonitor,
-                cpuMonitor,
-                networkMonitor,
-                worldMonitor,
+                monitorRegistry,
+                tickCapture,
                 profilesDirectory,
                 pluginVersion
         );
@@ -82,6 +123,14 @@ public class FlarePlugin extends JavaPlugin {
                 cpuMonitor,
                 networkMonitor,
                 worldMonitor,
+                allocationMonitor,
+                offHeapMonitor,
+                containerMonitor,
+                queueLatencyMonitor,
+                jitMonitor,
+                safepointMonitor,
+                ioMonitor,
+                monitorRegistry,
                 profiler
         );
 
@@ -91,8 +140,32 @@ public class FlarePlugin extends JavaPlugin {
         getLogger().atInfo().log("Flare plugin initialized");
     }
 
+    /**
+     * Returns the per-system timing registry that tick instrumentation reports into.
+     */
+    public SystemTimings getSystemTimings() {
+        return systemTimings;
+    }
+
+    /**
+     * Returns the registry through which other plugins add their own monitors. Their samples are written
+     * to profiler reports as generic metric frames.
+     */
+    public MonitorRegistry getMonitorRegistry() {
+        return monitorRegistry;
+    }
+
+    /**
+     * Returns the I/O monitor, which world save instrumentation reports save durations into.
+     */
+    public IoMonitor getIoMonitor() {
+        return ioMonitor;
+    }
+
     @Override
     protected void start() {
+        queueLatencyMonitor.start();
+        jfrEvents.start();
         getLogger().atInfo().log("Flare plugin started");
         getLogger().atInfo().log("Use /flare for performance information");
     }
@@ -105,6 +178,15 @@ public class FlarePlugin extends JavaPlugin {
             // Shutdown the profiler executor service gracefully
             profiler.shutdown();
         }
+        if (gcMonitor != null) {
+            gcMonitor.close();
+        }
+        if (queueLatencyMonitor != null) {
+            queueLatencyMonitor.close();
+        }
+        if (jfrEvents != null) {
+            jfrEvents.close();
+        }
 
         getLogger().atInfo().log("Flare plugin stopped");
     }
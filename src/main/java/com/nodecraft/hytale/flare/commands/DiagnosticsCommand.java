@@ -17,11 +17,14 @@ import com.nodecraft.hytale.flare.monitoring.*;
 import com.nodecraft.hytale.flare.model.*;
 import com.nodecraft.hytale.flare.profiler.PerformanceProfiler;
 import com.nodecraft.hytale.flare.profiler.ProfilerSession;
+import com.nodecraft.hytale.flare.profiler.RollupTimeline;
+import com.nodecraft.hytale.flare.profiler.SnapshotStore;
 
 import javax.annotation.Nonnull;
 import java.text.DecimalFormat;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 public final class DiagnosticsCommand extends AbstractCommandCollection {
@@ -35,6 +38,14 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
     private final CpuMonitor cpuMonitor;
     private final NetworkMonitor networkMonitor;
     private final WorldMonitor worldMonitor;
+    private final AllocationMonitor allocationMonitor;
+    private final OffHeapMonitor offHeapMonitor;
+    private final ContainerMonitor containerMonitor;
+    private final QueueLatencyMonitor queueLatencyMonitor;
+    private final JitMonitor jitMonitor;
+    private final SafepointMonitor safepointMonitor;
+    private final IoMonitor ioMonitor;
+    private final MonitorRegistry monitorRegistry;
     private final PerformanceProfiler profiler;
 
     public DiagnosticsCommand(
@@ -46,6 +57,14 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
             CpuMonitor cpuMonitor,
             NetworkMonitor networkMonitor,
             WorldMonitor worldMonitor,
+            AllocationMonitor allocationMonitor,
+            OffHeapMonitor offHeapMonitor,
+            ContainerMonitor containerMonitor,
+            QueueLatencyMonitor queueLatencyMonitor,
+            JitMonitor jitMonitor,
+            SafepointMonitor safepointMonitor,
+            IoMonitor ioMonitor,
+            MonitorRegistry monitorRegistry,
             PerformanceProfiler profiler
     ) {
         super("flare", "Performance diagnostics and profiling commands");
@@ -57,18 +76,33 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         this.cpuMonitor = cpuMonitor;
         this.networkMonitor = networkMonitor;
         this.worldMonitor = worldMonitor;
+        this.allocationMonitor = allocationMonitor;
+        this.offHeapMonitor = offHeapMonitor;
+        this.containerMonitor = containerMonitor;
+        this.queueLatencyMonitor = queueLatencyMonitor;
+        this.jitMonitor = jitMonitor;
+        this.safepointMonitor = safepointMonitor;
+        this.ioMonitor = ioMonitor;
+        this.monitorRegistry = monitorRegistry;
         this.profiler = profiler;
 
         // Add subcommands
         this.addSubCommand(new InfoCommand());
         this.addSubCommand(new StatusCommand());
         this.addSubCommand(new HeapCommand());
+        this.addSubCommand(new OffHeapCommand());
         this.addSubCommand(new GcCommand());
+        this.addSubCommand(new SafepointsCommand());
         this.addSubCommand(new ThreadsCommand());
         this.addSubCommand(new TpsCommand());
         this.addSubCommand(new WorldCommand());
+        this.addSubCommand(new ChunksCommand());
         this.addSubCommand(new CpuCommand());
+        this.addSubCommand(new JitCommand());
+        this.addSubCommand(new ContainerCommand());
+        this.addSubCommand(new IoCommand());
         this.addSubCommand(new NetworkCommand());
+        this.addSubCommand(new MonitorsCommand());
         this.addSubCommand(new ProfileCommand());
     }
 
@@ -105,6 +139,17 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         }
     }
 
+    private class OffHeapCommand extends CommandBase {
+        public OffHeapCommand() {
+            super("offheap", "Show direct buffers, process RSS and native memory");
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext context) {
+            showOffHeap(context);
+        }
+    }
+
     private class GcCommand extends CommandBase {
         public GcCommand() {
             super("gc", "Show garbage collection statistics");
@@ -116,15 +161,38 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         }
     }
 
+    private class SafepointsCommand extends CommandBase {
+        public SafepointsCommand() {
+            super("safepoints", "Show safepoint pauses and time to safepoint by VM operation");
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext context) {
+            showSafepoints(context);
+        }
+    }
+
     private class ThreadsCommand extends CommandBase {
         public ThreadsCommand() {
             super("threads", "Show thread information and deadlock detection");
+            this.addSubCommand(new ThreadsTopCommand());
         }
 
         @Override
         protected void executeSync(@Nonnull CommandContext context) {
             showThreads(context);
         }
+
+        private class ThreadsTopCommand extends CommandBase {
+            public ThreadsTopCommand() {
+                super("top", "Show the threads using the most CPU");
+            }
+
+            @Override
+            protected void executeSync(@Nonnull CommandContext context) {
+                showTopThreads(context);
+            }
+        }
     }
 
     private class TpsCommand extends CommandBase {
@@ -153,6 +221,17 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         }
     }
 
+    private class ChunksCommand extends CommandBase {
+        public ChunksCommand() {
+            super("chunks", "Show chunk generation, load and unload rates per world");
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext context) {
+            showChunks(context);
+        }
+    }
+
     private class CpuCommand extends CommandBase {
         public CpuCommand() {
             super("cpu", "Show CPU usage (if available)");
@@ -164,6 +243,39 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         }
     }
 
+    private class JitCommand extends CommandBase {
+        public JitCommand() {
+            super("jit", "Show JIT compilation, class loading and code cache usage");
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext context) {
+            showJit(context);
+        }
+    }
+
+    private class ContainerCommand extends CommandBase {
+        public ContainerCommand() {
+            super("container", "Show container CPU throttling, memory limit and pressure");
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext context) {
+            showContainer(context);
+        }
+    }
+
+    private class IoCommand extends CommandBase {
+        public IoCommand() {
+            super("io", "Show process disk I/O, file descriptors and save disk statistics");
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext context) {
+            showIo(context);
+        }
+    }
+
     private class NetworkCommand extends CommandBase {
         public NetworkCommand() {
             super("network", "Show network statistics");
@@ -175,6 +287,17 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         }
     }
 
+    private class MonitorsCommand extends CommandBase {
+        public MonitorsCommand() {
+            super("monitors", "List monitors with their cost class and interval, and registered monitors' values");
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext context) {
+            showMonitors(context);
+        }
+    }
+
     private class ProfileCommand extends AbstractCommandCollection {
         public ProfileCommand() {
             super("profile", "Performance profiling commands");
@@ -238,13 +361,20 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         if (snapshot.tps() != null) {
             TpsMetrics tps = snapshot.tps();
             context.sendMessage(Message.raw(String.format(
-                    "TPS: %.2f (avg: %.2f, min: %.2f, max: %.2f)",
+                    "TPS: %.2f (5m avg: %.2f, min: %.2f, max: %.2f)",
                     tps.currentTps(), tps.averageTps(), tps.minTps(), tps.maxTps()
             )));
             String tickTimeSummary = formatTickTimeSummary();
             if (tickTimeSummary != null) {
                 context.sendMessage(Message.raw(tickTimeSummary));
             }
+            if (tps.tickTime1m() != null && tps.tickTime1m().count() > 0) {
+                context.sendMessage(Message.raw(String.format(
+                        "Tick Time 1m: p99 %s, max %s",
+                        formatNanosMs(tps.tickTime1m().p99()),
+                        formatNanosMs(tps.tickTime1m().max())
+                )));
+            }
         }
 
         if (snapshot.threads() != null) {
@@ -267,13 +397,68 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
             )));
         }
 
+        if (snapshot.container() != null && snapshot.container().available() && snapshot.container().intervalNanos() > 0) {
+            ContainerMetrics container = snapshot.container();
+            context.sendMessage(Message.raw(String.format(
+                    "Container: throttled %.1f%% of periods, memory %s%s",
+                    container.throttledRatio() * 100,
+                    formatBytes(container.memoryCurrentBytes()),
+                    container.memoryMaxBytes() > 0 ? " / " + formatBytes(container.memoryMaxBytes()) : ""
+            )));
+        }
+
+        if (snapshot.io() != null && snapshot.io().processIoAvailable() && snapshot.io().intervalNanos() > 0) {
+            IoMetrics io = snapshot.io();
+            context.sendMessage(Message.raw(String.format(
+                    "Disk I/O: read %s/s, write %s/s, %d open files",
+                    formatBytes((long) io.readBytesPerSecond()),
+                    formatBytes((long) io.writeBytesPerSecond()),
+                    io.openFileDescriptors()
+            )));
+        }
+
+        if (snapshot.overhead() != null) {
+            OverheadMetrics overhead = snapshot.overhead();
+            context.sendMessage(Message.raw(String.format(
+                    "Flare Overhead: %.3f%% of a core (session average %.3f%%)%s",
+                    overhead.coreShare() * 100,
+                    overhead.sessionCoreShare() * 100,
+                    overhead.adaptive() ? ", adaptive" : ""
+            )));
+        }
+
+        if (snapshot.queueLatency() != null) {
+            QueueLatencyMetrics queueLatency = snapshot.queueLatency();
+            QueueLatencyMetrics.WorldQueueLatency worst = null;
+            for (QueueLatencyMetrics.WorldQueueLatency world : queueLatency.worlds()) {
+                if (worst == null || world.latency10s().p99() > worst.latency10s().p99()) {
+                    worst = world;
+                }
+            }
+            context.sendMessage(Message.raw(String.format(
+                    "Queue Latency (10s p99): scheduler %s%s",
+                    formatNanosMs(queueLatency.schedulerDelay10s().p99()),
+                    worst != null
+                            ? String.format(", worst world %s %s", worst.worldName(), formatNanosMs(worst.latency10s().p99()))
+                            : ""
+            )));
+        }
+
+        if (snapshot.allocation() != null && snapshot.allocation().intervalNanos() > 0) {
+            context.sendMessage(Message.raw(String.format(
+                    "Allocation: %s/s",
+                    formatBytes((long) snapshot.allocation().processBytesPerSecond())
+            )));
+        }
+
         if (snapshot.world() != null) {
             WorldMetrics world = snapshot.world();
             context.sendMessage(Message.raw(String.format(
-                    "Worlds: %d, Chunks: %d, Entities: %d",
+                    "Worlds: %d, Chunks: %d, Entities: %d%s",
                     world.worldCount(),
                     world.totalLoadedChunks(),
-                    world.totalEntities()
+                    world.totalEntities(),
+                    formatStaleWorlds(world)
             )));
         }
 
@@ -300,6 +485,412 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         context.sendMessage(Message.raw(String.format("Committed: %s", formatBytes(heap.committed()))));
         context.sendMessage(Message.raw(String.format("Max: %s", formatBytes(heap.max()))));
         context.sendMessage(Message.raw(String.format("Usage: %.2f%%", heap.usageRatio() * 100)));
+
+        MemoryPoolMetrics memory = heapMonitor.collectPools();
+        if (memory == null) {
+            return;
+        }
+
+        if (memory.liveSetBytes() >= 0) {
+            context.sendMessage(Message.raw(String.format("Live Set (after GC): %s", formatBytes(memory.liveSetBytes()))));
+        }
+        if (memory.hasLiveSetTrend()) {
+            context.sendMessage(Message.raw(String.format(
+                    "Live Set Trend: %+.1f MB/hour over %s (%d samples)",
+                    memory.liveSetSlopeMbPerHour(),
+                    formatDuration(Duration.ofMillis(memory.liveSetWindowMillis())),
+                    memory.liveSetSamples()
+            )));
+        } else {
+            context.sendMessage(Message.raw("Live Set Trend: collecting (needs 10+ minutes of GC activity)"));
+        }
+
+        context.sendMessage(Message.raw("Heap Pools (used / committed / max, peak, after GC):"));
+        for (MemoryPoolMetrics.PoolUsage pool : memory.pools()) {
+            if (pool.heap()) {
+                context.sendMessage(Message.raw(formatPoolUsage(pool)));
+            }
+        }
+        context.sendMessage(Message.raw("Non-Heap Pools:"));
+        for (MemoryPoolMetrics.PoolUsage pool : memory.pools()) {
+            if (!pool.heap()) {
+                context.sendMessage(Message.raw(formatPoolUsage(pool)));
+            }
+        }
+    }
+
+    private void showSafepoints(CommandContext context) {
+        SafepointMetrics safepoints = safepointMonitor.collect();
+        if (safepoints == null) {
+            context.sendMessage(Message.raw("Safepoint monitoring is disabled"));
+            return;
+        }
+        if (!safepoints.available()) {
+            context.sendMessage(Message.raw("Safepoint monitoring needs JFR event streaming, which is unavailable in this JVM"));
+            return;
+        }
+
+        context.sendMessage(Message.raw("=== Safepoints ==="));
+        context.sendMessage(Message.raw(String.format(
+                "Total: %d safepoints, paused %s (time to safepoint %s)",
+                safepoints.safepointCount(),
+                formatDuration(Duration.ofNanos(safepoints.totalPauseNanos())),
+                formatDuration(Duration.ofNanos(safepoints.totalTimeToSafepointNanos()))
+        )));
+        context.sendMessage(Message.raw(String.format(
+                "Pause 1m: p50 %s / p99 %s / max %s (%d), 5m p99 %s",
+                formatNanosMs(safepoints.pause1m().p50()),
+                formatNanosMs(safepoints.pause1m().p99()),
+                formatNanosMs(safepoints.pause1m().max()),
+                safepoints.pause1m().count(),
+                formatNanosMs(safepoints.pause5m().p99())
+        )));
+        context.sendMessage(Message.raw(String.format(
+                "Time to Safepoint 1m: p50 %s / p99 %s / max %s",
+                formatNanosMs(safepoints.timeToSafepoint1m().p50()),
+                formatNanosMs(safepoints.timeToSafepoint1m().p99()),
+                formatNanosMs(safepoints.timeToSafepoint1m().max())
+        )));
+        context.sendMessage(Message.raw("By Operation:"));
+        for (SafepointMetrics.VmOperationStats operation : safepoints.operations()) {
+            context.sendMessage(Message.raw(String.format(
+                    "  %s: %d, total %s, p99 %s, max %s, ttsp %s",
+                    operation.operation(),
+                    operation.count(),
+                    formatNanosMs(operation.totalPauseNanos()),
+                    formatNanosMs(operation.pause().p99()),
+                    formatNanosMs(operation.maxPauseNanos()),
+                    formatNanosMs(operation.totalTimeToSafepointNanos())
+            )));
+        }
+    }
+
+    private void showJit(CommandContext context) {
+        JitMetrics jit = jitMonitor.collect();
+        if (jit == null) {
+            context.sendMessage(Message.raw("JIT monitoring is disabled"));
+            return;
+        }
+
+        context.sendMessage(Message.raw("=== JIT & Class Loading ==="));
+        context.sendMessage(Message.raw(String.format(
+                "Compiler: %s, total compile time %s",
+                jit.compilerName(),
+                jit.totalCompilationMillis() >= 0
+                        ? formatDuration(Duration.ofMillis(jit.totalCompilationMillis()))
+                        : "n/a"
+        )));
+        if (jit.intervalNanos() > 0) {
+            context.sendMessage(Message.raw(String.format(
+                    "Since last check (%s): compiling %dms, classes loaded %.1f/s, unloaded %.1f/s",
+                    formatDuration(Duration.ofNanos(jit.intervalNanos())),
+                    jit.compilationMillisDelta(),
+                    jit.classesLoadedPerSecond(),
+                    jit.classesUnloadedPerSecond()
+            )));
+        }
+        if (jit.jfrAvailable()) {
+            context.sendMessage(Message.raw(String.format(
+                    "JFR: %d compilations, %d deoptimizations, %d code cache full (%d total)",
+                    jit.compilationsDelta(),
+                    jit.deoptimizationsDelta(),
+                    jit.codeCacheFullDelta(),
+                    jit.codeCacheFullTotal()
+            )));
+        } else {
+            context.sendMessage(Message.raw("JFR: unavailable (compilation/deoptimization counts not collected)"));
+        }
+        context.sendMessage(Message.raw(String.format(
+                "Classes: %d loaded, %d total loaded, %d unloaded",
+                jit.loadedClassCount(),
+                jit.totalLoadedClassCount(),
+                jit.unloadedClassCount()
+        )));
+        context.sendMessage(Message.raw("Code Cache:"));
+        for (JitMetrics.CodeCacheSegment segment : jit.codeCache()) {
+            context.sendMessage(Message.raw(String.format(
+                    "  %s: %s / %s (%.1f%%)%s",
+                    segment.name(),
+                    formatBytes(segment.used()),
+                    segment.max() > 0 ? formatBytes(segment.max()) : "unlimited",
+                    segment.usageRatio() * 100,
+                    segment.usageRatio() >= 0.9 ? " [nearly full]" : ""
+            )));
+        }
+    }
+
+    private void showContainer(CommandContext context) {
+        ContainerMetrics container = containerMonitor.latest();
+        if (container == null) {
+            context.sendMessage(Message.raw("Container monitoring is disabled"));
+            return;
+        }
+        if (!container.available()) {
+            context.sendMessage(Message.raw("No cgroup v2 hierarchy found (not in a container, or cgroup v1)"));
+            return;
+        }
+
+        context.sendMessage(Message.raw("=== Container (cgroup v2) ==="));
+        context.sendMessage(Message.raw(String.format(
+                "CPU Limit: %s",
+                container.cpuLimitCores() > 0 ? String.format("%.2f cores", container.cpuLimitCores()) : "unlimited"
+        )));
+        if (container.intervalNanos() > 0) {
+            context.sendMessage(Message.raw(String.format(
+                    "Last interval (%s): CPU %.2f cores, throttled %d/%d periods (%.1f%%) for %s",
+                    formatDuration(Duration.ofNanos(container.intervalNanos())),
+                    container.cpuUsageCores(),
+                    container.cpuThrottledPeriodsDelta(),
+                    container.cpuPeriodsDelta(),
+                    container.throttledRatio() * 100,
+                    formatNanosMs(container.cpuThrottledUsecDelta() * 1000)
+            )));
+        }
+        context.sendMessage(Message.raw(String.format(
+                "Throttled Total: %d periods, %s",
+                container.cpuThrottledPeriodsTotal(),
+                formatDuration(Duration.ofNanos(container.cpuThrottledUsecTotal() * 1000))
+        )));
+        context.sendMessage(Message.raw(String.format(
+                "Memory: %s / %s, OOM kills: %d",
+                container.memoryCurrentBytes() >= 0 ? formatBytes(container.memoryCurrentBytes()) : "n/a",
+                container.memoryMaxBytes() > 0 ? formatBytes(container.memoryMaxBytes()) : "unlimited",
+                container.memoryOomKillsTotal()
+        )));
+        context.sendMessage(Message.raw("Pressure (some avg10/avg60, full avg10/avg60):"));
+        context.sendMessage(Message.raw(formatPressure("cpu", container.cpuPressure())));
+        context.sendMessage(Message.raw(formatPressure("memory", container.memoryPressure())));
+        context.sendMessage(Message.raw(formatPressure("io", container.ioPressure())));
+    }
+
+    private void showIo(CommandContext context) {
+        IoMetrics io = ioMonitor.latest();
+        if (io == null) {
+            context.sendMessage(Message.raw("I/O monitoring is disabled"));
+            return;
+        }
+
+        context.sendMessage(Message.raw("=== Disk I/O ==="));
+        if (io.openFileDescriptors() >= 0) {
+            context.sendMessage(Message.raw(String.format(
+                    "File Descriptors: %d / %s",
+                    io.openFileDescriptors(),
+                    io.maxFileDescriptors() > 0 ? String.valueOf(io.maxFileDescriptors()) : "unknown"
+            )));
+        }
+        if (!io.processIoAvailable()) {
+            context.sendMessage(Message.raw("Process I/O counters unavailable (/proc/self/io unreadable)"));
+        } else {
+            context.sendMessage(Message.raw(String.format(
+                    "Total: storage read %s, write %s (read() %s, write() %s, %d/%d syscalls)",
+                    formatBytes(io.readBytesTotal()),
+                    formatBytes(io.writeBytesTotal()),
+                    formatBytes(io.readCharsTotal()),
+                    formatBytes(io.writeCharsTotal()),
+                    io.readSyscallsTotal(),
+                    io.writeSyscallsTotal()
+            )));
+            if (io.intervalNanos() > 0) {
+                context.sendMessage(Message.raw(String.format(
+                        "Last interval (%s): read %s/s, write %s/s, %d reads, %d writes",
+                        formatDuration(Duration.ofNanos(io.intervalNanos())),
+                        formatBytes((long) io.readBytesPerSecond()),
+                        formatBytes((long) io.writeBytesPerSecond()),
+                        io.readSyscallsDelta(),
+                        io.writeSyscallsDelta()
+                )));
+            }
+        }
+
+        for (IoMetrics.DiskStats disk : io.disks()) {
+            context.sendMessage(Message.raw(String.format(
+                    "Device %s (%s): in flight %d",
+                    disk.device(),
+                    String.join(", ", disk.worlds()),
+                    disk.inFlight()
+            )));
+            if (io.intervalNanos() > 0) {
+                context.sendMessage(Message.raw(String.format(
+                        "  %.1f%% busy, read %s in %d ops (avg %.2fms), write %s in %d ops (avg %.2fms)",
+                        disk.utilization(io.intervalNanos()) * 100,
+                        formatBytes(disk.readBytesDelta()),
+                        disk.readsDelta(),
+                        disk.averageReadMillis(),
+                        formatBytes(disk.writeBytesDelta()),
+                        disk.writesDelta(),
+                        disk.averageWriteMillis()
+                )));
+            }
+        }
+
+        for (IoMetrics.WorldSaveStats save : io.worldSaves()) {
+            context.sendMessage(Message.raw(String.format(
+                    "Saves %s: %d, avg %s, max %s",
+                    save.worldName(),
+                    save.saves(),
+                    formatNanosMs(save.totalNanos() / save.saves()),
+                    formatNanosMs(save.maxNanos())
+            )));
+        }
+    }
+
+    private void showMonitors(CommandContext context) {
+        OverheadMetrics overhead = profiler.getOverhead();
+        context.sendMessage(Message.raw("=== Monitors ==="));
+        if (overhead != null) {
+            context.sendMessage(Message.raw(String.format(
+                    "Collection cost: %.3f%% of a core, last pass %s, session total %s%s",
+                    overhead.coreShare() * 100,
+                    formatNanosMs(overhead.passNanos()),
+                    formatNanosMs(overhead.totalCostNanos()),
+                    overhead.adaptive() ? " (adaptive sampling)" : ""
+            )));
+        } else {
+            context.sendMessage(Message.raw("Collection cost is measured while a profiling session runs"));
+        }
+        for (Monitor<?> monitor : monitorRegistry.getBuiltInMonitors()) {
+            context.sendMessage(Message.raw(formatMonitor(monitor, overhead)));
+        }
+
+        List<Monitor<?>> registered = monitorRegistry.getMonitors();
+        if (registered.isEmpty()) {
+            return;
+        }
+        context.sendMessage(Message.raw("Registered:"));
+        for (Monitor<?> monitor : registered) {
+            context.sendMessage(Message.raw(formatMonitor(monitor, overhead)));
+            if (!monitor.isEnabled()) {
+                continue;
+            }
+            try {
+                MetricFrame frame = collectFrame(monitor);
+                if (frame != null) {
+                    for (MetricFrame.Metric metric : frame.metrics()) {
+                        context.sendMessage(Message.raw(String.format(
+                                "    %s: %s", metric.name(), DECIMAL_FORMAT.format(metric.value()))));
+                    }
+                }
+            } catch (RuntimeException e) {
+                context.sendMessage(Message.raw("    Failed to collect: " + e.getMessage()));
+            }
+        }
+    }
+
+    private <T> MetricFrame collectFrame(Monitor<T> monitor) {
+        return Monitor.toFrame(monitor, monitor.collect());
+    }
+
+    private String formatMonitor(Monitor<?> monitor, OverheadMetrics overhead) {
+        OverheadMetrics.MonitorCost cost = null;
+        if (overhead != null) {
+            for (OverheadMetrics.MonitorCost candidate : overhead.monitors()) {
+                if (candidate.monitor().equals(monitor.getName())) {
+                    cost = candidate;
+                    break;
+                }
+            }
+        }
+        if (cost == null) {
+            return String.format(
+                    "  %s: %s, %s%s",
+                    monitor.getName(),
+                    monitor.getCostClass().name().toLowerCase(),
+                    monitor.getIntervalMillis() > 0
+                            ? "every " + monitor.getIntervalMillis() + "ms"
+                            : "default interval",
+                    monitor.isEnabled() ? "" : " (disabled)"
+            );
+        }
+        return String.format(
+                "  %s: %s, every %s%s, avg %s (%.3f%% of a core)",
+                monitor.getName(),
+                monitor.getCostClass().name().toLowerCase(),
+                formatNanosMs(cost.intervalNanos()),
+                cost.stretch() > 1 ? " (stretched x" + cost.stretch() + ")" : "",
+                formatNanosMs(Math.round(cost.averageCostNanos())),
+                cost.coreShare() * 100
+        );
+    }
+
+    private String formatPressure(String label, ContainerMetrics.Pressure pressure) {
+        if (pressure == null) {
+            return String.format("  %s: n/a", label);
+        }
+        return String.format(
+                "  %s: %.2f%% / %.2f%%, %s",
+                label,
+                pressure.someAvg10(),
+                pressure.someAvg60(),
+                Double.isNaN(pressure.fullAvg10())
+                        ? "n/a"
+                        : String.format("%.2f%% / %.2f%%", pressure.fullAvg10(), pressure.fullAvg60())
+        );
+    }
+
+    private void showOffHeap(CommandContext context) {
+        OffHeapMetrics offHeap = offHeapMonitor.collect();
+        if (offHeap == null) {
+            context.sendMessage(Message.raw("Off-heap monitoring is disabled"));
+            return;
+        }
+
+        context.sendMessage(Message.raw("=== Off-Heap Memory ==="));
+        if (offHeap.rssBytes() >= 0) {
+            context.sendMessage(Message.raw(String.format(
+                    "Process RSS: %s (peak %s, anon %s, file %s)",
+                    formatBytes(offHeap.rssBytes()),
+                    formatBytes(offHeap.rssPeakBytes()),
+                    formatBytes(offHeap.rssAnonBytes()),
+                    formatBytes(offHeap.rssFileBytes())
+            )));
+        } else {
+            context.sendMessage(Message.raw("Process RSS: unavailable"));
+        }
+
+        context.sendMessage(Message.raw("Buffer Pools:"));
+        for (OffHeapMetrics.BufferPoolUsage pool : offHeap.bufferPools()) {
+            context.sendMessage(Message.raw(String.format(
+                    "  %s: %d buffers, %s used, %s capacity",
+                    pool.name(),
+                    pool.count(),
+                    formatBytes(pool.memoryUsed()),
+                    formatBytes(pool.totalCapacity())
+            )));
+        }
+
+        if (!offHeap.nmtAvailable()) {
+            context.sendMessage(Message.raw("Native Memory Tracking: off (start the JVM with -XX:NativeMemoryTracking=summary)"));
+            return;
+        }
+        context.sendMessage(Message.raw(String.format(
+                "Native Memory (committed / reserved): %s / %s",
+                formatBytes(offHeap.nmtCommittedBytes()),
+                formatBytes(offHeap.nmtReservedBytes())
+        )));
+        for (OffHeapMetrics.NmtCategory category : offHeap.nmtCategories()) {
+            if (category.committedBytes() >= 1024 * 1024) {
+                context.sendMessage(Message.raw(String.format(
+                        "  %s: %s / %s",
+                        category.name(),
+                        formatBytes(category.committedBytes()),
+                        formatBytes(category.reservedBytes())
+                )));
+            }
+        }
+    }
+
+    private String formatPoolUsage(MemoryPoolMetrics.PoolUsage pool) {
+        double ratio = pool.usageRatio();
+        return String.format(
+                "  %s: %s / %s / %s, peak %s%s%s",
+                pool.name(),
+                formatBytes(pool.used()),
+                formatBytes(pool.committed()),
+                pool.max() >= 0 ? formatBytes(pool.max()) : "unbounded",
+                formatBytes(pool.peakUsed()),
+                pool.collectionUsed() >= 0 ? ", after GC " + formatBytes(pool.collectionUsed()) : "",
+                !Double.isNaN(ratio) && ratio >= 0.9 ? String.format(" (WARNING: %.0f%% of max)", ratio * 100) : ""
+        );
     }
 
     private void showGc(CommandContext context) {
@@ -323,10 +914,45 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
                     collector.averagePauseTime()
             )));
         }
+
+        context.sendMessage(Message.raw(formatPauseSummary("Pauses (1m)", gc.pauses1m())));
+        context.sendMessage(Message.raw(formatPauseSummary("Pauses (5m)", gc.pauses5m())));
+
+        if (gc.recentPauses() != null && !gc.recentPauses().isEmpty()) {
+            context.sendMessage(Message.raw("Recent Collections:"));
+            for (GcPauseEvent pause : gc.recentPauses()) {
+                context.sendMessage(Message.raw(String.format(
+                        "  %s: %d ms, %s (%s)%s",
+                        pause.collectorName(),
+                        pause.durationMillis(),
+                        pause.action(),
+                        pause.cause(),
+                        pause.concurrent() ? " [concurrent]" : ""
+                )));
+            }
+        }
+    }
+
+    private String formatPauseSummary(String label, PercentileSummary summary) {
+        if (summary == null || summary.count() == 0) {
+            return label + ": none";
+        }
+        return String.format(
+                "%s: %d, p50 %s, p99 %s, max %s",
+                label,
+                summary.count(),
+                formatNanosMs(summary.p50()),
+                formatNanosMs(summary.p99()),
+                formatNanosMs(summary.max())
+        );
+    }
+
+    private String formatNanosMs(long nanos) {
+        return String.format("%.2f ms", nanos / 1_000_000.0);
     }
 
     private void showThreads(CommandContext context) {
-        ThreadMetrics threads = threadMonitor.collect();
+        ThreadMetrics threads = threadMonitor.latest();
         if (threads == null) {
             context.sendMessage(Message.raw("Thread monitoring is disabled"));
             return;
@@ -338,7 +964,15 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         context.sendMessage(Message.raw(String.format("Total Started: %d", threads.totalStartedThreads())));
         context.sendMessage(Message.raw(String.format("Daemon Threads: %d", threads.daemonThreads())));
 
-        context.sendMessage(Message.raw("Threads by State:"));
+        if (threads.threadStatesSampled()) {
+            context.sendMessage(Message.raw(String.format(
+                    "Threads by State (estimated from %d of %d threads):",
+                    threads.threadStateSampleSize(),
+                    threads.totalThreads()
+            )));
+        } else {
+            context.sendMessage(Message.raw("Threads by State:"));
+        }
         for (var entry : threads.threadsByState().entrySet()) {
             if (entry.getValue() > 0) {
                 context.sendMessage(Message.raw(String.format("  %s: %d", entry.getKey(), entry.getValue())));
@@ -349,6 +983,51 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
             context.sendMessage(Message.raw("WARNING: Deadlocks detected!"));
             context.sendMessage(Message.raw("Deadlocked Thread IDs: " + threads.deadlockedThreads()));
         }
+
+        if (threads.cpuSampleIntervalNanos() > 0) {
+            context.sendMessage(Message.raw(String.format(
+                    "Thread CPU: %.1f%% of one core (use /flare threads top for details)",
+                    threads.totalThreadCpuUsage() * 100.0
+            )));
+        }
+    }
+
+    private void showTopThreads(CommandContext context) {
+        if (!threadMonitor.isThreadCpuTimeSupported()) {
+            context.sendMessage(Message.raw("Per-thread CPU time is not supported by this JVM"));
+            return;
+        }
+        ThreadMetrics threads = threadMonitor.latest();
+        if (threads == null) {
+            context.sendMessage(Message.raw("Thread monitoring is disabled"));
+            return;
+        }
+        if (threads.cpuSampleIntervalNanos() <= 0) {
+            context.sendMessage(Message.raw("No thread CPU sample yet, run the command again"));
+            return;
+        }
+
+        context.sendMessage(Message.raw(String.format(
+                "=== Top Threads by CPU (last %s) ===",
+                formatDuration(Duration.ofNanos(threads.cpuSampleIntervalNanos()))
+        )));
+        context.sendMessage(Message.raw(String.format(
+                "All threads: %.1f%% of one core", threads.totalThreadCpuUsage() * 100.0
+        )));
+        if (threads.topCpuThreads().isEmpty()) {
+            context.sendMessage(Message.raw("No thread used CPU during the interval"));
+            return;
+        }
+        for (ThreadCpuUsage usage : threads.topCpuThreads()) {
+            context.sendMessage(Message.raw(String.format(
+                    "  %5.1f%% %s (#%d, %s, user %.0f%%)",
+                    usage.cpuUsage() * 100.0,
+                    usage.threadName(),
+                    usage.threadId(),
+                    usage.state(),
+                    usage.cpuTimeNanos() > 0 ? usage.userTimeNanos() * 100.0 / usage.cpuTimeNanos() : 0.0
+            )));
+        }
     }
 
     private void showTps(CommandContext context) {
@@ -360,39 +1039,144 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
 
         context.sendMessage(Message.raw("=== TPS Status ==="));
         context.sendMessage(Message.raw(String.format("Current TPS: %.2f", tps.currentTps())));
-        context.sendMessage(Message.raw(String.format("Average TPS: %.2f", tps.averageTps())));
-        context.sendMessage(Message.raw(String.format("Min TPS: %.2f", tps.minTps())));
-        context.sendMessage(Message.raw(String.format("Max TPS: %.2f", tps.maxTps())));
+        context.sendMessage(Message.raw("TPS (avg / min / max):"));
+        context.sendMessage(Message.raw(formatTpsWindow("1m", tps.tps1m())));
+        context.sendMessage(Message.raw(formatTpsWindow("5m", tps.tps5m())));
+        context.sendMessage(Message.raw(formatTpsWindow("15m", tps.tps15m())));
 
         String tickTimeSummary = formatTickTimeSummary();
         if (tickTimeSummary != null) {
             context.sendMessage(Message.raw(tickTimeSummary));
         }
 
-        WorldMetrics worldMetrics = worldMonitor.collect();
-        if (worldMetrics != null && !worldMetrics.worlds().isEmpty()) {
-            context.sendMessage(Message.raw("World Tick (avg 10s):"));
-            var worldMap = Universe.get().getWorlds();
-            for (WorldSnapshot snapshot : worldMetrics.worlds()) {
-                String tickMs = formatTickTimeMs(snapshot.avgTickNanos());
-                String tpsInfo = "";
-                World world = worldMap.get(snapshot.name());
-                if (world != null && snapshot.avgTickNanos() > 0.0) {
-                    double worldTps = 1_000_000_000.0 / Math.max(snapshot.avgTickNanos(), world.getTickStepNanos());
-                    tpsInfo = String.format(", TPS %.2f", worldTps);
-                }
+        context.sendMessage(Message.raw("Tick Time Percentiles (p50 / p95 / p99 / max):"));
+        context.sendMessage(Message.raw(formatTickPercentiles("1s", tps.tickTime1s())));
+        context.sendMessage(Message.raw(formatTickPercentiles("10s", tps.tickTime10s())));
+        context.sendMessage(Message.raw(formatTickPercentiles("1m", tps.tickTime1m())));
+        context.sendMessage(Message.raw(formatTickPercentiles("5m", tps.tickTime5m())));
+
+        if (tps.worstWorld() != null) {
+            WorldTpsMetrics worst = tps.worstWorld();
+            context.sendMessage(Message.raw(String.format(
+                    "Worst World: %s (TPS %.2f, 1m p99 %s)",
+                    worst.worldName(),
+                    worst.currentTps(),
+                    formatNanosMs(worst.tickTime1m().p99())
+            )));
+        }
+
+        if (tps.worlds() != null && !tps.worlds().isEmpty()) {
+            AllocationMetrics allocation = allocationMonitor.collect();
+            context.sendMessage(Message.raw("Worlds by Tick Cost (avg 10s):"));
+            for (WorldTpsMetrics world : tps.worlds()) {
                 context.sendMessage(Message.raw(String.format(
-                        "  %s: %s%s",
-                        snapshot.name(),
-                        tickMs,
-                        tpsInfo
+                        "  %s: %s, 1m p99 %s, TPS %.2f (5m avg %.2f, min %.2f, max %.2f)%s",
+                        world.worldName(),
+                        formatTickTimeMs(world.avgTickNanos()),
+                        formatNanosMs(world.tickTime1m().p99()),
+                        world.currentTps(),
+                        world.averageTps(),
+                        world.minTps(),
+                        world.maxTps(),
+                        formatWorldAllocation(allocation, world.worldName())
                 )));
             }
         }
     }
 
+    private void showChunks(CommandContext context) {
+        WorldMetrics worldMetrics = worldMonitor.latest();
+        if (worldMetrics == null) {
+            context.sendMessage(Message.raw("World monitoring is disabled"));
+            return;
+        }
+        if (worldMetrics.worlds().isEmpty()) {
+            context.sendMessage(Message.raw("No worlds found"));
+            return;
+        }
+
+        double generatedPerSecond = 0.0;
+        double loadedPerSecond = 0.0;
+        double unloadedPerSecond = 0.0;
+        context.sendMessage(Message.raw("=== Chunks ==="));
+        for (WorldSnapshot snapshot : worldMetrics.worlds()) {
+            ChunkRates rates = snapshot.chunkRates() != null ? snapshot.chunkRates() : ChunkRates.EMPTY;
+            generatedPerSecond += rates.generatedPerSecond();
+            loadedPerSecond += rates.loadedPerSecond();
+            unloadedPerSecond += rates.unloadedPerSecond();
+            context.sendMessage(Message.raw(String.format(
+                    "  %s: loaded %d, gen %.1f/s, load %.1f/s, unload %.1f/s (total generated %d, total loaded %d)%s",
+                    snapshot.name(),
+                    snapshot.loadedChunks(),
+                    rates.generatedPerSecond(),
+                    rates.loadedPerSecond(),
+                    rates.unloadedPerSecond(),
+                    snapshot.totalGeneratedChunks(),
+                    snapshot.totalLoadedChunks(),
+                    snapshot.stale() ? " [stale]" : ""
+            )));
+        }
+        context.sendMessage(Message.raw(String.format(
+                "Total: %d loaded, gen %.1f/s, load %.1f/s, unload %.1f/s",
+                worldMetrics.totalLoadedChunks(),
+                generatedPerSecond,
+                loadedPerSecond,
+                unloadedPerSecond
+        )));
+    }
+
+    private void showEntityCensus(CommandContext context, EntityCensus census) {
+        context.sendMessage(Message.raw(String.format(
+                "Entity Census (%s ago, %d archetypes, %.1f entities/chunk, scan %s over %d collections):",
+                formatDuration(Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - census.completedAtMillis()))),
+                census.archetypeCount(),
+                census.fragmentationRatio(),
+                formatNanosMs(census.scanNanos()),
+                census.collectionsSpanned()
+        )));
+        for (EntityCensus.ArchetypeCount archetype : census.topArchetypes()) {
+            context.sendMessage(Message.raw(String.format(
+                    "  %d entities in %d chunks (%.1f/chunk): %s",
+                    archetype.entityCount(),
+                    archetype.chunkCount(),
+                    archetype.entitiesPerChunk(),
+                    archetype.signature()
+            )));
+        }
+    }
+
+    private void showSystemTimings(CommandContext context, SystemTimingMetrics timings) {
+        context.sendMessage(Message.raw(String.format(
+                "Systems (%d registered, %d ticks over %s):",
+                timings.registeredSystems(),
+                timings.ticks(),
+                formatDuration(Duration.ofNanos(timings.intervalNanos()))
+        )));
+        for (SystemTimingMetrics.SystemTiming system : timings.topSystems()) {
+            context.sendMessage(Message.raw(String.format(
+                    "  %s: %s/tick, p99 %s, max %s, %d runs",
+                    system.name(),
+                    formatNanosMs((long) system.nanosPerTick()),
+                    formatNanosMs(system.duration().p99()),
+                    formatNanosMs(system.duration().max()),
+                    system.duration().count()
+            )));
+        }
+    }
+
+    private static String formatStaleWorlds(WorldMetrics world) {
+        if (world.staleWorldCount() == 0) {
+            return "";
+        }
+        return String.format(
+                " (%d unresponsive, worst %dms)",
+                world.staleWorldCount(),
+                world.maxUnresponsiveMillis()
+        );
+    }
+
     private void showWorld(CommandContext context, OptionalArg<String> worldArg) {
-        WorldMetrics worldMetrics = worldMonitor.collect();
+        WorldMetrics worldMetrics = worldMonitor.latest();
         if (worldMetrics == null) {
             context.sendMessage(Message.raw("World monitoring is disabled"));
             return;
@@ -414,20 +1198,24 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         if (requestedWorld == null || requestedWorld.isBlank()) {
             context.sendMessage(Message.raw("=== World Summary ==="));
             context.sendMessage(Message.raw(String.format(
-                    "Worlds: %d, Total Chunks: %d, Total Entities: %d",
+                    "Worlds: %d, Total Chunks: %d, Total Entities: %d%s",
                     worldMetrics.worldCount(),
                     worldMetrics.totalLoadedChunks(),
-                    worldMetrics.totalEntities()
+                    worldMetrics.totalEntities(),
+                    formatStaleWorlds(worldMetrics)
             )));
             for (WorldSnapshot snapshot : worldMetrics.worlds()) {
                 context.sendMessage(Message.raw(String.format(
-                        "  %s: chunks %d, entities %d, tick %s, ticking %s, paused %s",
+                        "  %s: chunks %d, entities %d, tick %s, ticking %s, paused %s%s",
                         snapshot.name(),
                         snapshot.loadedChunks(),
                         snapshot.entityCount(),
                         formatTickTimeMs(snapshot.avgTickNanos()),
                         snapshot.ticking() ? "yes" : "no",
-                        snapshot.paused() ? "yes" : "no"
+                        snapshot.paused() ? "yes" : "no",
+                        snapshot.stale()
+                                ? String.format(" [stale, unresponsive %dms]", snapshot.unresponsiveMillis())
+                                : ""
                 )));
             }
             return;
@@ -443,6 +1231,31 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         context.sendMessage(Message.raw(String.format("=== World: %s ===", world.getName())));
         context.sendMessage(Message.raw(String.format("Ticking: %s", world.isTicking() ? "yes" : "no")));
         context.sendMessage(Message.raw(String.format("Paused: %s", world.isPaused() ? "yes" : "no")));
+        QueueLatencyMetrics queueLatency = queueLatencyMonitor.collect();
+        if (queueLatency != null) {
+            for (QueueLatencyMetrics.WorldQueueLatency latency : queueLatency.worlds()) {
+                if (latency.worldName().equals(world.getName())) {
+                    context.sendMessage(Message.raw(String.format(
+                            "Queue Latency: 10s p50 %s / p99 %s / max %s, 1m p99 %s%s",
+                            formatNanosMs(latency.latency10s().p50()),
+                            formatNanosMs(latency.latency10s().p99()),
+                            formatNanosMs(latency.latency10s().max()),
+                            formatNanosMs(latency.latency1m().p99()),
+                            latency.outstandingMillis() > 0
+                                    ? String.format(" (probe waiting %dms)", latency.outstandingMillis())
+                                    : ""
+                    )));
+                }
+            }
+        }
+        for (WorldSnapshot snapshot : worldMetrics.worlds()) {
+            if (snapshot.name().equals(world.getName()) && snapshot.stale()) {
+                context.sendMessage(Message.raw(String.format(
+                        "Unresponsive: world thread has not run collection for %dms",
+                        snapshot.unresponsiveMillis()
+                )));
+            }
+        }
 
         ChunkStore chunkStore = world.getChunkStore();
         context.sendMessage(Message.raw(String.format(
@@ -458,6 +1271,14 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
                 entityStore.getEntityCount(),
                 entityStore.getArchetypeChunkCount()
         )));
+        for (WorldSnapshot snapshot : worldMetrics.worlds()) {
+            if (snapshot.name().equals(world.getName()) && snapshot.entityCensus() != null) {
+                showEntityCensus(context, snapshot.entityCensus());
+            }
+            if (snapshot.name().equals(world.getName()) && snapshot.systemTimings() != null) {
+                showSystemTimings(context, snapshot.systemTimings());
+            }
+        }
 
         long tickStepNanos = world.getTickStepNanos();
         HistoricMetric metrics = world.getBufferedTickLengthMetricSet();
@@ -509,6 +1330,47 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         );
     }
 
+    private String formatTickPercentiles(String label, PercentileSummary summary) {
+        if (summary == null || summary.count() == 0) {
+            return String.format("  %s: n/a", label);
+        }
+        return String.format(
+                "  %s: %s / %s / %s / %s (%d ticks)",
+                label,
+                formatNanosMs(summary.p50()),
+                formatNanosMs(summary.p95()),
+                formatNanosMs(summary.p99()),
+                formatNanosMs(summary.max()),
+                summary.count()
+        );
+    }
+
+    private String formatWorldAllocation(AllocationMetrics allocation, String worldName) {
+        if (allocation == null) {
+            return "";
+        }
+        for (AllocationMetrics.WorldAllocation world : allocation.worlds()) {
+            if (world.worldName().equals(worldName)) {
+                return String.format(", alloc %s/s", formatBytes((long) world.bytesPerSecond()));
+            }
+        }
+        return "";
+    }
+
+    private String formatTpsWindow(String label, WindowStats stats) {
+        if (stats == null || stats.isEmpty()) {
+            return String.format("  %s: n/a", label);
+        }
+        return String.format(
+                "  %s: %.2f / %.2f / %.2f (%d samples)",
+                label,
+                stats.average(),
+                stats.min(),
+                stats.max(),
+                stats.count()
+        );
+    }
+
     private String formatTickTimeMs(double nanos) {
         if (nanos <= 0.0) {
             return "n/a";
@@ -701,6 +1563,45 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
         context.sendMessage(Message.raw(String.format("Elapsed: %s", formatDuration(elapsed))));
         context.sendMessage(Message.raw(String.format("Snapshots: %d", snapshotCount)));
         context.sendMessage(Message.raw(String.format("Active: %s", activeSession.isActive() ? "Yes" : "No")));
+
+        SnapshotStore.View snapshots = activeSession.getSnapshots();
+        if (snapshots.size() > 0) {
+            context.sendMessage(Message.raw(String.format("Stored: %s (%s per snapshot)",
+                    formatBytes(snapshots.getEncodedBytes()),
+                    formatBytes(snapshots.getEncodedBytes() / snapshots.size()))));
+            double minTps = snapshots.min(SnapshotStore.Column.TPS);
+            if (!Double.isNaN(minTps)) {
+                context.sendMessage(Message.raw(String.format("Session TPS: %.2f avg, %.2f min",
+                        snapshots.average(SnapshotStore.Column.TPS), minTps)));
+            }
+            double maxTickMillis = snapshots.max(SnapshotStore.Column.TICK_P99_MILLIS);
+            if (!Double.isNaN(maxTickMillis)) {
+                context.sendMessage(Message.raw(String.format("Worst Tick p99 (1s): %.2fms", maxTickMillis)));
+            }
+            double maxHeap = snapshots.max(SnapshotStore.Column.HEAP_USED_BYTES);
+            if (!Double.isNaN(maxHeap)) {
+                context.sendMessage(Message.raw(String.format("Peak Heap: %s", formatBytes((long) maxHeap))));
+            }
+        }
+
+        RollupTimeline rollups = activeSession.getRollups();
+        if (rollups != null) {
+            List<RollupTimeline.Tier> tiers = rollups.getTiers();
+            StringBuilder line = new StringBuilder("Rollups:");
+            for (RollupTimeline.Tier tier : tiers) {
+                line.append(String.format(" %ds x %d", tier.getBucketMillis() / 1000, tier.size()));
+            }
+            context.sendMessage(Message.raw(line.toString()));
+            if (snapshots.getEvictedSnapshots() > 0) {
+                context.sendMessage(Message.raw(String.format("Evicted from full resolution: %d snapshots",
+                        snapshots.getEvictedSnapshots())));
+            }
+            RollupTimeline.Tier coarsest = tiers.get(tiers.size() - 1);
+            double lowTps = coarsest.getPercentile(SnapshotStore.Column.TPS, 0, coarsest.size(), 1.0);
+            if (!Double.isNaN(lowTps)) {
+                context.sendMessage(Message.raw(String.format("Session TPS p1: %.2f", lowTps)));
+            }
+        }
     }
 
     private void showInfo(CommandContext context) {
@@ -746,11 +1647,22 @@ public final class DiagnosticsCommand extends AbstractCommandCollection {
                 Instant.now(),
                 heapMonitor.collect(),
                 gcMonitor.collect(),
-                threadMonitor.collect(),
+                threadMonitor.latest(),
                 tpsMonitor.collect(),
                 cpuMonitor.collect(),
-                worldMonitor.collect(),
-                networkMonitor.collect()
+                worldMonitor.latest(),
+                networkMonitor.collect(),
+                heapMonitor.collectPools(),
+                allocationMonitor.collect(),
+                offHeapMonitor.collect(),
+                containerMonitor.latest(),
+                queueLatencyMonitor.collect(),
+                jitMonitor.collect(),
+                safepointMonitor.collect(),
+                ioMonitor.latest(),
+                List.of(),
+                profiler.getOverhead(),
+                0L
         );
     }
 
@@ -0,0 +1,65 @@
+package com.nodecraft.hytale.flare.config;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.codec.validation.validator.RangeValidator;
+
+import java.time.Duration;
+
+public class EntityCensusConfig {
+    public static final BuilderCodec<EntityCensusConfig> CODEC = BuilderCodec.builder(EntityCensusConfig.class, EntityCensusConfig::new)
+            .append(
+                    new KeyedCodec<>("Enabled", Codec.BOOLEAN),
+                    (config, value) -> config.enabled = value,
+                    config -> config.enabled
+            )
+            .documentation("Walks each world's entity store to count entities per archetype. Runs on the world thread, so it is off by default.")
+            .add()
+            .append(
+                    new KeyedCodec<>("IntervalSeconds", Codec.DURATION_SECONDS),
+                    (config, value) -> config.interval = value,
+                    config -> config.interval
+            )
+            .addValidator(new RangeValidator<>(Duration.ofSeconds(5), Duration.ofHours(1), true))
+            .documentation("The minimum time in seconds between the start of two census passes of the same world")
+            .add()
+            .append(
+                    new KeyedCodec<>("BudgetMicros", Codec.INTEGER),
+                    (config, value) -> config.budgetMicros = value,
+                    config -> config.budgetMicros
+            )
+            .addValidator(new RangeValidator<>(50, 10000, true))
+            .documentation("The maximum time in microseconds a census may spend on the world thread per collection. Passes that do not fit continue on the next collection.")
+            .add()
+            .append(
+                    new KeyedCodec<>("TopArchetypes", Codec.INTEGER),
+                    (config, value) -> config.topArchetypes = value,
+                    config -> config.topArchetypes
+            )
+            .addValidator(new RangeValidator<>(1, 100, true))
+            .documentation("How many of the most populated archetypes to keep per world")
+            .add()
+            .build();
+
+    private boolean enabled = false;
+    private Duration interval = Duration.ofSeconds(30);
+    private int budgetMicros = 500;
+    private int topArchetypes = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public int getBudgetMicros() {
+        return budgetMicros;
+    }
+
+    public int getTopArchetypes() {
+        return topArchetypes;
+    }
+}
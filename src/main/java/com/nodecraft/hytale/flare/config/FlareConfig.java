@@ -40,6 +40,51 @@ public class FlareConfig {
                     (config, value) -> config.worldMonitorConfig = value,
                     config -> config.worldMonitorConfig
             ).add()
+            .append(
+                    new KeyedCodec<>("AllocationMonitor", MonitorConfig.CODEC),
+                    (config, value) -> config.allocationMonitorConfig = value,
+                    config -> config.allocationMonitorConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("OffHeapMonitor", MonitorConfig.CODEC),
+                    (config, value) -> config.offHeapMonitorConfig = value,
+                    config -> config.offHeapMonitorConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("ContainerMonitor", MonitorConfig.CODEC),
+                    (config, value) -> config.containerMonitorConfig = value,
+                    config -> config.containerMonitorConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("QueueLatencyMonitor", MonitorConfig.CODEC),
+                    (config, value) -> config.queueLatencyMonitorConfig = value,
+                    config -> config.queueLatencyMonitorConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("JitMonitor", MonitorConfig.CODEC),
+                    (config, value) -> config.jitMonitorConfig = value,
+                    config -> config.jitMonitorConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("SafepointMonitor", MonitorConfig.CODEC),
+                    (config, value) -> config.safepointMonitorConfig = value,
+                    config -> config.safepointMonitorConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("IoMonitor", MonitorConfig.CODEC),
+                    (config, value) -> config.ioMonitorConfig = value,
+                    config -> config.ioMonitorConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("EntityCensus", EntityCensusConfig.CODEC),
+                    (config, value) -> config.entityCensusConfig = value,
+                    config -> config.entityCensusConfig
+            ).add()
+            .append(
+                    new KeyedCodec<>("SystemTiming", SystemTimingConfig.CODEC),
+                    (config, value) -> config.systemTimingConfig = value,
+                    config -> config.systemTimingConfig
+            ).add()
             .append(
                     new KeyedCodec<>("Profiler", ProfilerConfig.CODEC),
                     (config, value) -> config.profilerConfig = value,
@@ -54,6 +99,15 @@ public class FlareConfig {
     private MonitorConfig cpuMonitorConfig = new MonitorConfig();
     private MonitorConfig networkMonitorConfig = new MonitorConfig();
     private MonitorConfig worldMonitorConfig = new MonitorConfig();
+    private MonitorConfig allocationMonitorConfig = new MonitorConfig();
+    private MonitorConfig offHeapMonitorConfig = new MonitorConfig();
+    private MonitorConfig containerMonitorConfig = new MonitorConfig();
+    private MonitorConfig queueLatencyMonitorConfig = new MonitorConfig();
+    private MonitorConfig jitMonitorConfig = new MonitorConfig();
+    private MonitorConfig safepointMonitorConfig = new MonitorConfig();
+    private MonitorConfig ioMonitorConfig = new MonitorConfig();
+    private EntityCensusConfig entityCensusConfig = new EntityCensusConfig();
+    private SystemTimingConfig systemTimingConfig = new SystemTimingConfig();
     private ProfilerConfig profilerConfig = new ProfilerConfig();
 
     public MonitorConfig getHeapMonitorConfig() {
@@ -84,6 +138,42 @@ public class FlareConfig {
         return worldMonitorConfig;
     }
 
+    public MonitorConfig getAllocationMonitorConfig() {
+        return allocationMonitorConfig;
+    }
+
+    public MonitorConfig getOffHeapMonitorConfig() {
+        return offHeapMonitorConfig;
+    }
+
+    public MonitorConfig getContainerMonitorConfig() {
+        return containerMonitorConfig;
+    }
+
+    public MonitorConfig getQueueLatencyMonitorConfig() {
+        return queueLatencyMonitorConfig;
+    }
+
+    public MonitorConfig getJitMonitorConfig() {
+        return jitMonitorConfig;
+    }
+
+    public MonitorConfig getSafepointMonitorConfig() {
+        return safepointMonitorConfig;
+    }
+
+    public MonitorConfig getIoMonitorConfig() {
+        return ioMonitorConfig;
+    }
+
+    public EntityCensusConfig getEntityCensusConfig() {
+        return entityCensusConfig;
+    }
+
+    public SystemTimingConfig getSystemTimingConfig() {
+        return systemTimingConfig;
+    }
+
     public ProfilerConfig getProfilerConfig() {
         return profilerConfig;
     }
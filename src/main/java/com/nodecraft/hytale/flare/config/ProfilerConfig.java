@@ -20,13 +20,21 @@ public class ProfilerConfig {
             .addValidator(new RangeValidator<>(Duration.ofSeconds(1), Duration.ofSeconds(Integer.MAX_VALUE), true))
             .documentation("The frequency in seconds of how often Flare samples core metrics")
             .add()
+            .append(
+                    new KeyedCodec<>("SamplingIntervalMs", Codec.INTEGER),
+                    (config, value) -> config.samplingIntervalMs = value,
+                    config -> config.samplingIntervalMs
+            )
+            .addValidator(new RangeValidator<>(0, 60000, true))
+            .documentation("Sampling interval in milliseconds, overriding SamplingIntervalSeconds when above 0 (minimum 50). Below one second, TPS, CPU and network are kept in a compact timeline at this interval and full snapshots are taken once per second.")
+            .add()
             .append(
                     new KeyedCodec<>("MaxDurationSeconds", Codec.DURATION_SECONDS),
                     (config, value) -> config.maxDuration = value,
                     config -> config.maxDuration
             )
-            .addValidator(new RangeValidator<>(Duration.ofSeconds(1), Duration.ofHours(24), true))
-            .documentation("The maximum duration of a Flare profile")
+            .addValidator(new RangeValidator<>(Duration.ofSeconds(1), Duration.ofDays(7), true))
+            .documentation("The maximum duration of a Flare profile, up to 7 days. Sessions longer than MaxSnapshots allows need RollupsEnabled.")
             .add()
             .append(
                     new KeyedCodec<>("MaxSnapshots", Codec.INTEGER),
@@ -34,7 +42,14 @@ public class ProfilerConfig {
                     config -> config.maxSnapshots
             )
             .addValidator(new RangeValidator<>(100, Integer.MAX_VALUE, true))
-            .documentation("The maximum number of snapshots to keep in memory")
+            .documentation("The maximum number of snapshots to keep in memory. With RollupsEnabled, the number of most recent snapshots kept at full resolution instead.")
+            .add()
+            .append(
+                    new KeyedCodec<>("RollupsEnabled", Codec.BOOLEAN),
+                    (config, value) -> config.rollupsEnabled = value,
+                    config -> config.rollupsEnabled
+            )
+            .documentation("Keeps only the last MaxSnapshots snapshots at full resolution and rolls every snapshot up into 10 second buckets for the last day and 1 minute buckets for the last 7 days, so sessions can run until MaxDurationSeconds in bounded memory.")
             .add()
             .append(
                     new KeyedCodec<>("CpuProfilingEnabled", Codec.BOOLEAN),     
@@ -85,14 +100,33 @@ public class ProfilerConfig {
             .addValidator(new RangeValidator<>(32, Integer.MAX_VALUE, true))
             .documentation("The maximum stack depth to capture for Flare profiles. Higher values result in higher memory usage and larger reports.")
             .add()
+            .append(
+                    new KeyedCodec<>("AdaptiveSampling", Codec.BOOLEAN),
+                    (config, value) -> config.adaptiveSampling = value,
+                    config -> config.adaptiveSampling
+            )
+            .documentation("Stretches the interval of monitors whose measured collection cost exceeds MonitorBudgetPercent, and shrinks it back when the cost drops.")
+            .add()
+            .append(
+                    new KeyedCodec<>("MonitorBudgetPercent", Codec.DOUBLE),
+                    (config, value) -> config.monitorBudgetPercent = value,
+                    config -> config.monitorBudgetPercent
+            )
+            .addValidator(new RangeValidator<>(0.01, 100.0, true))
+            .documentation("The share of one CPU core, in percent, that a single monitor may spend collecting when adaptive sampling is enabled.")
+            .add()
             .build();
 
     private static final Duration MIN_SAMPLING_INTERVAL = Duration.ofSeconds(1);
+    private static final int MIN_SAMPLING_INTERVAL_MS = 50;
+    private static final Duration SUB_SECOND_SNAPSHOT_INTERVAL = Duration.ofSeconds(1);
     private static final int MIN_MAX_SNAPSHOTS = 100;
 
     private Duration samplingInterval = Duration.ofSeconds(1);
+    private int samplingIntervalMs = 0;
     private Duration maxDuration = Duration.ofHours(1);
     private int maxSnapshots = 3600; // 1 hour at 1 second intervals
+    private boolean rollupsEnabled = false;
     
     // Async-profiler CPU profiling configuration
     private boolean cpuProfilingEnabled = true;
@@ -101,11 +135,27 @@ public class ProfilerConfig {
     private int cpuSamplingIntervalMs = 4; // 4ms default (250 samples/sec) - lower overhead
     private int systemMetricsIntervalMs = 1000; // 1 second for system metrics  
     private int maxStackDepth = 128;
+    private boolean adaptiveSampling = false;
+    private double monitorBudgetPercent = 0.5;
 
     public Duration getSamplingInterval() {
+        if (samplingIntervalMs > 0) {
+            return Duration.ofMillis(Math.max(samplingIntervalMs, MIN_SAMPLING_INTERVAL_MS));
+        }
         return samplingInterval.compareTo(MIN_SAMPLING_INTERVAL) < 0 ? MIN_SAMPLING_INTERVAL : samplingInterval;
     }
 
+    public boolean isSubSecondSampling() {
+        return getSamplingInterval().compareTo(SUB_SECOND_SNAPSHOT_INTERVAL) < 0;
+    }
+
+    /**
+     * Interval of full snapshots: the sampling interval, or one second when sampling sub-second.
+     */
+    public Duration getSnapshotInterval() {
+        return isSubSecondSampling() ? SUB_SECOND_SNAPSHOT_INTERVAL : getSamplingInterval();
+    }
+
     public Duration getMaxDuration() {
         return maxDuration;
     }
@@ -114,6 +164,10 @@ public class ProfilerConfig {
         return Math.max(maxSnapshots, MIN_MAX_SNAPSHOTS);
     }
 
+    public boolean isRollupsEnabled() {
+        return rollupsEnabled;
+    }
+
     public boolean isCpuProfilingEnabled() {
         return cpuProfilingEnabled;
     }
@@ -138,6 +192,14 @@ public class ProfilerConfig {
         return maxStackDepth;
     }
 
+    public boolean isAdaptiveSampling() {
+        return adaptiveSampling;
+    }
+
+    public double getMonitorBudgetPercent() {
+        return monitorBudgetPercent;
+    }
+
     public enum CpuProfilingEvent {
         CPU,
         WALL;
@@ -0,0 +1,50 @@
+package com.nodecraft.hytale.flare.config;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.codec.validation.validator.RangeValidator;
+
+public class SystemTimingConfig {
+    public static final BuilderCodec<SystemTimingConfig> CODEC = BuilderCodec.builder(SystemTimingConfig.class, SystemTimingConfig::new)
+            .append(
+                    new KeyedCodec<>("Enabled", Codec.BOOLEAN),
+                    (config, value) -> config.enabled = value,
+                    config -> config.enabled
+            )
+            .documentation("Times each instrumented ECS system or tick phase per world. When disabled the timing hooks return immediately.")
+            .add()
+            .append(
+                    new KeyedCodec<>("MaxSystemsPerWorld", Codec.INTEGER),
+                    (config, value) -> config.maxSystemsPerWorld = value,
+                    config -> config.maxSystemsPerWorld
+            )
+            .addValidator(new RangeValidator<>(1, 4096, true))
+            .documentation("The maximum number of systems that can be registered per world. Each one preallocates a ~2KB histogram.")
+            .add()
+            .append(
+                    new KeyedCodec<>("TopSystems", Codec.INTEGER),
+                    (config, value) -> config.topSystems = value,
+                    config -> config.topSystems
+            )
+            .addValidator(new RangeValidator<>(1, 100, true))
+            .documentation("How many of the most expensive systems to report per world")
+            .add()
+            .build();
+
+    private boolean enabled = false;
+    private int maxSystemsPerWorld = 256;
+    private int topSystems = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxSystemsPerWorld() {
+        return maxSystemsPerWorld;
+    }
+
+    public int getTopSystems() {
+        return topSystems;
+    }
+}
@@ -0,0 +1,29 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Heap allocation rates over one sampling interval, from the JVM's total and per-thread allocated byte
+ * counters.
+ */
+public record AllocationMetrics(
+    double processBytesPerSecond,    // all threads, including exited ones; live threads only without a JVM total
+    long allocatedBytes,
+    long intervalNanos,
+    List<WorldAllocation> worlds,    // highest rate first
+    List<ThreadAllocation> topThreads
+) {
+    public record WorldAllocation(
+        String worldName,
+        long threadId,
+        long allocatedBytes,
+        double bytesPerSecond
+    ) {}
+
+    public record ThreadAllocation(
+        long threadId,
+        String threadName,
+        long allocatedBytes,
+        double bytesPerSecond
+    ) {}
+}
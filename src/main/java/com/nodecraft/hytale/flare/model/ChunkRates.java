@@ -0,0 +1,17 @@
+package com.nodecraft.hytale.flare.model;
+
+/**
+ * Chunk throughput for one world, derived from the deltas of the ChunkStore counters over
+ * {@code intervalNanos}. Unloads are inferred as loads minus the change in the loaded chunk count.
+ */
+public record ChunkRates(
+    long intervalNanos,
+    long generated,
+    long loaded,
+    long unloaded,
+    double generatedPerSecond,
+    double loadedPerSecond,
+    double unloadedPerSecond
+) {
+    public static final ChunkRates EMPTY = new ChunkRates(0L, 0L, 0L, 0L, 0.0, 0.0, 0.0);
+}
@@ -0,0 +1,49 @@
+package com.nodecraft.hytale.flare.model;
+
+/**
+ * cgroup v2 limits, usage and pressure of the container the server runs in.
+ *
+ * Counters come as totals plus deltas since the previous collection ({@code intervalNanos}).
+ * Limits are -1 when unlimited.
+ */
+public record ContainerMetrics(
+    boolean available,
+    long intervalNanos,
+    double cpuLimitCores,
+    double cpuUsageCores,           // average over the interval
+    long cpuPeriodsTotal,
+    long cpuThrottledPeriodsTotal,
+    long cpuThrottledUsecTotal,
+    long cpuPeriodsDelta,
+    long cpuThrottledPeriodsDelta,
+    long cpuThrottledUsecDelta,
+    long memoryCurrentBytes,
+    long memoryMaxBytes,
+    long memoryOomKillsTotal,
+    Pressure cpuPressure,
+    Pressure memoryPressure,
+    Pressure ioPressure
+) {
+    public static ContainerMetrics unavailable() {
+        return new ContainerMetrics(false, 0L, -1.0, 0.0, 0L, 0L, 0L, 0L, 0L, 0L, -1L, -1L, 0L, null, null, null);
+    }
+
+    /**
+     * Fraction of CFS periods in the interval in which the container was throttled.
+     */
+    public double throttledRatio() {
+        return cpuPeriodsDelta > 0 ? (double) cpuThrottledPeriodsDelta / cpuPeriodsDelta : 0.0;
+    }
+
+    /**
+     * Pressure stall information: share of time some (or all, for {@code full}) tasks were stalled.
+     */
+    public record Pressure(
+        double someAvg10,          // percent
+        double someAvg60,
+        double fullAvg10,          // NaN for cpu.pressure on older kernels
+        double fullAvg60,
+        long someStallUsecDelta,
+        long fullStallUsecDelta
+    ) {}
+}
@@ -0,0 +1,31 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Entities per archetype for one world, from the last completed census pass.
+ *
+ * A pass may span several collections, so chunks can change while it runs; the counts are a close
+ * approximation rather than an atomic view. {@code fragmentationRatio} is entities per archetype chunk
+ * across the whole store, where low values mean many sparsely filled chunks.
+ */
+public record EntityCensus(
+    long completedAtMillis,
+    long scanNanos,
+    int collectionsSpanned,
+    long entityCount,
+    int archetypeChunkCount,
+    int archetypeCount,
+    double fragmentationRatio,
+    List<ArchetypeCount> topArchetypes
+) {
+    public record ArchetypeCount(
+        String signature,
+        long entityCount,
+        int chunkCount
+    ) {
+        public double entitiesPerChunk() {
+            return chunkCount > 0 ? (double) entityCount / chunkCount : 0.0;
+        }
+    }
+}
@@ -8,8 +8,27 @@ public record GcMetrics(
     long totalCollectionTime,
     double averagePauseTime,
     long lastCollectionTime,
-    long lastCollectionDuration
+    long lastCollectionDuration,
+    PercentileSummary pauses1m,
+    PercentileSummary pauses5m,
+    List<GcPauseEvent> recentPauses,
+    long lastPauseSequence
 ) {
+    public GcMetrics withRecentPauses(List<GcPauseEvent> pauses) {
+        return new GcMetrics(
+            collectors,
+            totalCollections,
+            totalCollectionTime,
+            averagePauseTime,
+            lastCollectionTime,
+            lastCollectionDuration,
+            pauses1m,
+            pauses5m,
+            pauses,
+            lastPauseSequence
+        );
+    }
+
     public record GcCollectorInfo(
         String name,
         long collectionCount,
@@ -0,0 +1,24 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * A single collection reported through a GC notification.
+ */
+public record GcPauseEvent(
+    String collectorName,
+    String action,
+    String cause,
+    long startTimeMillis,  // epoch millis
+    long durationMillis,
+    boolean concurrent,    // concurrent cycles do not stop application threads
+    List<PoolUsage> pools
+) {
+    public record PoolUsage(
+        String name,
+        long usedBefore,
+        long usedAfter,
+        long committedBefore,
+        long committedAfter
+    ) {}
+}
@@ -0,0 +1,82 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Disk and file I/O of the server process from {@code /proc/self/io}, plus the block devices that hold
+ * the world saves.
+ *
+ * Counters come as totals plus deltas since the previous collection ({@code intervalNanos}). Process
+ * counters are -1 when {@code /proc/self/io} is unreadable (non-Linux, or restricted by ptrace rules).
+ */
+public record IoMetrics(
+    boolean processIoAvailable,
+    long intervalNanos,
+    long readBytesTotal,            // bytes fetched from storage, excluding page cache hits
+    long writeBytesTotal,           // bytes sent to the page cache for writeback
+    long readCharsTotal,            // bytes passed to read(), cached or not
+    long writeCharsTotal,
+    long readSyscallsTotal,
+    long writeSyscallsTotal,
+    long readBytesDelta,
+    long writeBytesDelta,
+    long readCharsDelta,
+    long writeCharsDelta,
+    long readSyscallsDelta,
+    long writeSyscallsDelta,
+    long cancelledWriteBytesDelta,  // written then truncated or deleted before writeback
+    long openFileDescriptors,
+    long maxFileDescriptors,
+    List<DiskStats> disks,
+    List<WorldSaveStats> worldSaves
+) {
+    public double readBytesPerSecond() {
+        return intervalNanos > 0 ? readBytesDelta * 1_000_000_000.0 / intervalNanos : 0.0;
+    }
+
+    public double writeBytesPerSecond() {
+        return intervalNanos > 0 ? writeBytesDelta * 1_000_000_000.0 / intervalNanos : 0.0;
+    }
+
+    /**
+     * Device-wide statistics from {@code /proc/diskstats}, which include I/O from other processes on the
+     * same device. Deltas cover the same interval as the process counters.
+     */
+    public record DiskStats(
+        String device,
+        List<String> worlds,        // worlds whose save path is on this device
+        long readsDelta,
+        long writesDelta,
+        long readBytesDelta,
+        long writeBytesDelta,
+        long readTimeMillisDelta,
+        long writeTimeMillisDelta,
+        long ioTimeMillisDelta,     // time the device had I/O in flight
+        long inFlight
+    ) {
+        public double averageReadMillis() {
+            return readsDelta > 0 ? (double) readTimeMillisDelta / readsDelta : 0.0;
+        }
+
+        public double averageWriteMillis() {
+            return writesDelta > 0 ? (double) writeTimeMillisDelta / writesDelta : 0.0;
+        }
+
+        /**
+         * Share of the interval the device was busy, 0 to 1.
+         */
+        public double utilization(long intervalNanos) {
+            return intervalNanos > 0 ? Math.min(1.0, ioTimeMillisDelta * 1_000_000.0 / intervalNanos) : 0.0;
+        }
+    }
+
+    /**
+     * World saves reported through {@code IoMonitor#recordWorldSave} since the previous collection.
+     */
+    public record WorldSaveStats(
+        String worldName,
+        long saves,
+        long totalNanos,
+        long maxNanos
+    ) {}
+}
@@ -0,0 +1,36 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * JIT, class loading and code cache activity. Deltas and rates cover {@code intervalNanos} since the
+ * previous sample. The JFR counts are -1 when JFR event streaming is unavailable.
+ */
+public record JitMetrics(
+    long intervalNanos,
+    String compilerName,
+    long totalCompilationMillis,
+    long compilationMillisDelta,
+    int loadedClassCount,
+    long totalLoadedClassCount,
+    long unloadedClassCount,
+    double classesLoadedPerSecond,
+    double classesUnloadedPerSecond,
+    List<CodeCacheSegment> codeCache,
+    boolean jfrAvailable,
+    long compilationsDelta,
+    long deoptimizationsDelta,
+    long codeCacheFullDelta,
+    long codeCacheFullTotal
+) {
+    public record CodeCacheSegment(
+        String name,
+        long used,
+        long committed,
+        long max
+    ) {
+        public double usageRatio() {
+            return max > 0 ? (double) used / max : 0.0;
+        }
+    }
+}
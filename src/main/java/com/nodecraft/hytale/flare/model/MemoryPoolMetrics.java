@@ -0,0 +1,32 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Per-pool memory usage plus the heap live set (occupancy right after GC) and its growth trend.
+ */
+public record MemoryPoolMetrics(
+    List<PoolUsage> pools,
+    long liveSetBytes,             // sum of heap pool usage after the last GC, -1 if unknown
+    double liveSetSlopeMbPerHour,  // NaN until enough post-GC samples were seen
+    int liveSetSamples,
+    long liveSetWindowMillis
+) {
+    public boolean hasLiveSetTrend() {
+        return !Double.isNaN(liveSetSlopeMbPerHour);
+    }
+
+    public record PoolUsage(
+        String name,
+        boolean heap,
+        long used,
+        long committed,
+        long max,             // -1 if undefined
+        long peakUsed,
+        long collectionUsed   // usage after the last GC, -1 if the pool does not report it
+    ) {
+        public double usageRatio() {
+            return max > 0 ? (double) used / max : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Named values of one sample from a monitor without a dedicated snapshot field.
+ */
+public record MetricFrame(
+    String monitor,
+    List<Metric> metrics
+) {
+    public record Metric(
+        String name,
+        double value
+    ) {}
+}
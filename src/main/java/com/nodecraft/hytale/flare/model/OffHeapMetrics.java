@@ -0,0 +1,31 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Memory outside the Java heap: NIO buffer pools, process RSS and Native Memory Tracking categories.
+ */
+public record OffHeapMetrics(
+    List<BufferPoolUsage> bufferPools,
+    long rssBytes,            // -1 if /proc/self/status is unavailable
+    long rssPeakBytes,
+    long rssAnonBytes,
+    long rssFileBytes,
+    boolean nmtAvailable,     // false unless the JVM runs with -XX:NativeMemoryTracking
+    long nmtReservedBytes,
+    long nmtCommittedBytes,
+    List<NmtCategory> nmtCategories
+) {
+    public record BufferPoolUsage(
+        String name,          // "direct" or "mapped"
+        long count,
+        long memoryUsed,
+        long totalCapacity
+    ) {}
+
+    public record NmtCategory(
+        String name,
+        long reservedBytes,
+        long committedBytes
+    ) {}
+}
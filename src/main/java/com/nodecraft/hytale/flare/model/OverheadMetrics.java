@@ -0,0 +1,30 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Flare's own collection cost, measured around every monitor's {@code collect()} call.
+ *
+ * Core shares are fractions of one CPU core (0.005 is 0.5%), estimated as average collection time over
+ * the monitor's current interval. Collection time is CPU time of the profiler thread, so time spent
+ * blocked, e.g. waiting on world threads, isn't counted.
+ */
+public record OverheadMetrics(
+    long passNanos,                 // collection pass that produced this snapshot
+    long totalCostNanos,            // every collection since the session started
+    double sessionCoreShare,        // totalCostNanos over the session duration
+    double coreShare,               // sum of the monitors' current core shares
+    boolean adaptive,
+    List<MonitorCost> monitors
+) {
+    public record MonitorCost(
+        String monitor,
+        String costClass,
+        long collections,
+        long lastCostNanos,
+        double averageCostNanos,    // exponentially weighted
+        long intervalNanos,         // current interval, including any adaptive stretch
+        int stretch,                // interval multiplier applied by adaptive sampling, 1 when not stretched
+        double coreShare
+    ) {}
+}
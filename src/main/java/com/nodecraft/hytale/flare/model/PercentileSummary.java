@@ -0,0 +1,31 @@
+package com.nodecraft.hytale.flare.model;
+
+import com.nodecraft.hytale.flare.util.LogLinearHistogram;
+
+/**
+ * Percentile summary of a histogram window. All values share the unit of the source histogram (nanoseconds).
+ */
+public record PercentileSummary(
+    long count,
+    long p50,
+    long p95,
+    long p99,
+    long max,
+    double mean
+) {
+    public static final PercentileSummary EMPTY = new PercentileSummary(0, 0, 0, 0, 0, 0.0);
+
+    public static PercentileSummary from(LogLinearHistogram histogram) {
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return EMPTY;
+        }
+        return new PercentileSummary(
+            histogram.getTotalCount(),
+            histogram.getValueAtPercentile(50.0),
+            histogram.getValueAtPercentile(95.0),
+            histogram.getValueAtPercentile(99.0),
+            histogram.getMax(),
+            histogram.getMean()
+        );
+    }
+}
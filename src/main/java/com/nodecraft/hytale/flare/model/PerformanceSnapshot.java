@@ -1,6 +1,7 @@
 package com.nodecraft.hytale.flare.model;
 
 import java.time.Instant;
+import java.util.List;
 
 public record PerformanceSnapshot(
     Instant timestamp,
@@ -10,5 +11,41 @@ public record PerformanceSnapshot(
     TpsMetrics tps,
     CpuMetrics cpu,
     WorldMetrics world,
-    NetworkMetrics network
-) {}
+    NetworkMetrics network,
+    MemoryPoolMetrics memoryPools,
+    AllocationMetrics allocation,
+    OffHeapMetrics offHeap,
+    ContainerMetrics container,
+    QueueLatencyMetrics queueLatency,
+    JitMetrics jit,
+    SafepointMetrics safepoints,
+    IoMetrics io,
+    List<MetricFrame> frames,       // monitors without a dedicated field, see Monitor#describe
+    OverheadMetrics overhead,       // Flare's own collection cost, only while profiling
+    long unchangedFields            // see isUnchanged
+) {
+    // Field numbers of the monitor components, matching the report's PerformanceSnapshot message
+    public static final int HEAP = 2;
+    public static final int GC = 3;
+    public static final int THREADS = 4;
+    public static final int TPS = 5;
+    public static final int CPU = 6;
+    public static final int WORLD = 7;
+    public static final int NETWORK = 8;
+    public static final int MEMORY_POOLS = 9;
+    public static final int ALLOCATION = 10;
+    public static final int OFF_HEAP = 11;
+    public static final int CONTAINER = 12;
+    public static final int QUEUE_LATENCY = 13;
+    public static final int JIT = 14;
+    public static final int SAFEPOINTS = 15;
+    public static final int IO = 16;
+
+    /**
+     * Whether a monitor component was left null because the monitor wasn't collected again since the
+     * previous snapshot, whose value still applies.
+     */
+    public boolean isUnchanged(int field) {
+        return (unchangedFields & (1L << field)) != 0L;
+    }
+}
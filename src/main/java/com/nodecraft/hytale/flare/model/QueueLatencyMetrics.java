@@ -0,0 +1,26 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Queueing delay measured by probe tasks. {@code schedulerDelay} is how late the server's scheduled
+ * executor ran a probe relative to its intended fire time; each world's {@code latency} is the time from
+ * submitting a no-op task to the world's executor until it started.
+ */
+public record QueueLatencyMetrics(
+    long probeIntervalNanos,
+    PercentileSummary schedulerDelay10s,
+    PercentileSummary schedulerDelay1m,
+    List<WorldQueueLatency> worlds
+) {
+    /**
+     * {@code outstandingMillis} is the age of a probe that has not started yet, so a stuck world shows up
+     * before its latency can be recorded.
+     */
+    public record WorldQueueLatency(
+        String worldName,
+        PercentileSummary latency10s,
+        PercentileSummary latency1m,
+        long outstandingMillis
+    ) {}
+}
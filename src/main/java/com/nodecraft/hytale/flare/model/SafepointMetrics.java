@@ -0,0 +1,41 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * Safepoint pauses from JFR, covering GC and non-GC VM operations alike. Totals are since the plugin
+ * started; the windowed percentiles cover the last 1 and 5 minutes. A pause runs from the start of the
+ * safepoint sync to the end of the safepoint, so it includes the time to safepoint.
+ */
+public record SafepointMetrics(
+    boolean available,
+    long safepointCount,
+    long totalPauseNanos,
+    long totalTimeToSafepointNanos,
+    PercentileSummary timeToSafepoint1m,
+    PercentileSummary timeToSafepoint5m,
+    PercentileSummary pause1m,
+    PercentileSummary pause5m,
+    List<VmOperationStats> operations
+) {
+    public static SafepointMetrics unavailable() {
+        return new SafepointMetrics(
+            false, 0L, 0L, 0L,
+            PercentileSummary.EMPTY, PercentileSummary.EMPTY, PercentileSummary.EMPTY, PercentileSummary.EMPTY,
+            List.of()
+        );
+    }
+
+    /**
+     * Safepoints attributed to a VM operation type, such as G1CollectForAllocation, ThreadDump or
+     * HandshakeAllThreads, sorted by total pause.
+     */
+    public record VmOperationStats(
+        String operation,
+        long count,
+        long totalPauseNanos,
+        long totalTimeToSafepointNanos,
+        long maxPauseNanos,
+        PercentileSummary pause
+    ) {}
+}
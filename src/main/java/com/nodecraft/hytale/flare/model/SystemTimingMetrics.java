@@ -0,0 +1,21 @@
+package com.nodecraft.hytale.flare.model;
+
+import java.util.List;
+
+/**
+ * The most expensive systems of one world since the previous collection, sorted by total time.
+ * {@code ticks} counts the ticks the instrumentation reported in that interval.
+ */
+public record SystemTimingMetrics(
+    long intervalNanos,
+    long ticks,
+    int registeredSystems,
+    List<SystemTiming> topSystems
+) {
+    public record SystemTiming(
+        String name,
+        long totalNanos,
+        double nanosPerTick,
+        PercentileSummary duration
+    ) {}
+}
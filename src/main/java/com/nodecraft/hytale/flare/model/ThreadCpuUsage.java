@@ -0,0 +1,14 @@
+package com.nodecraft.hytale.flare.model;
+
+/**
+ * CPU time a single thread used during one sampling interval.
+ */
+public record ThreadCpuUsage(
+    long threadId,
+    String threadName,
+    Thread.State state,
+    long cpuTimeNanos,       // CPU time used during the interval
+    long userTimeNanos,      // user-mode part of cpuTimeNanos
+    long totalCpuTimeNanos,  // CPU time since the thread started
+    double cpuUsage          // cpuTimeNanos / interval, 1.0 = one full core
+) {}
@@ -9,7 +9,12 @@ public record ThreadMetrics(
     long totalStartedThreads,
     int daemonThreads,
     Map<Thread.State, Integer> threadsByState,
-    List<Long> deadlockedThreads
+    boolean threadStatesSampled,  // threadsByState estimated from a random batch of threads
+    int threadStateSampleSize,
+    List<Long> deadlockedThreads,
+    List<ThreadCpuUsage> topCpuThreads,  // busiest first
+    long cpuSampleIntervalNanos,
+    double totalThreadCpuUsage           // all threads, 1.0 = one full core
 ) {
     public boolean hasDeadlocks() {
         return deadlockedThreads != null && !deadlockedThreads.isEmpty();
@@ -1,8 +1,38 @@
 package com.nodecraft.hytale.flare.model;
 
+import java.util.List;
+
+// averageTps/minTps/maxTps cover the last 5 minutes
 public record TpsMetrics(
     double currentTps,
     double averageTps,
     double minTps,
-    double maxTps
-) {}
+    double maxTps,
+    WindowStats tps1m,
+    WindowStats tps5m,
+    WindowStats tps15m,
+    PercentileSummary tickTime1s,
+    PercentileSummary tickTime10s,
+    PercentileSummary tickTime1m,
+    PercentileSummary tickTime5m,
+    List<WorldTpsMetrics> worlds,  // ranked by tick cost, most expensive first
+    WorldTpsMetrics worstWorld
+) {
+    public static TpsMetrics constant(double tps) {
+        return new TpsMetrics(
+            tps,
+            tps,
+            tps,
+            tps,
+            WindowStats.EMPTY,
+            WindowStats.EMPTY,
+            WindowStats.EMPTY,
+            PercentileSummary.EMPTY,
+            PercentileSummary.EMPTY,
+            PercentileSummary.EMPTY,
+            PercentileSummary.EMPTY,
+            List.of(),
+            null
+        );
+    }
+}
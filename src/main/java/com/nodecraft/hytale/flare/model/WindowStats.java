@@ -0,0 +1,17 @@
+package com.nodecraft.hytale.flare.model;
+
+/**
+ * Exact min/max/average of a gauge over a fixed time window.
+ */
+public record WindowStats(
+    long count,
+    double min,
+    double max,
+    double average
+) {
+    public static final WindowStats EMPTY = new WindowStats(0, Double.NaN, Double.NaN, Double.NaN);
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+}
@@ -2,9 +2,14 @@ package com.nodecraft.hytale.flare.model;
 
 import java.util.List;
 
+/**
+ * Totals include the last good values of stale worlds.
+ */
 public record WorldMetrics(
     int worldCount,
     int totalLoadedChunks,
     int totalEntities,
-    List<WorldSnapshot> worlds
+    List<WorldSnapshot> worlds,
+    int staleWorldCount,
+    long maxUnresponsiveMillis
 ) {}
@@ -1,5 +1,10 @@
 package com.nodecraft.hytale.flare.model;
 
+/**
+ * Per-world counters read on the world's own thread. When the world misses the collection deadline
+ * the last good values are reused with {@code stale} set, and {@code unresponsiveMillis} tells how long
+ * the outstanding collection task has been waiting on the world thread.
+ */
 public record WorldSnapshot(
     String name,
     boolean ticking,
@@ -9,5 +14,34 @@ public record WorldSnapshot(
     int totalLoadedChunks,
     int entityCount,
     int archetypeChunkCount,
-    double avgTickNanos
-) {}
+    double avgTickNanos,
+    WorldTpsMetrics tps,
+    ChunkRates chunkRates,
+    EntityCensus entityCensus,
+    SystemTimingMetrics systemTimings,
+    boolean stale,
+    long unresponsiveMillis
+) {
+    /**
+     * Returns this snapshot marked stale, with the world's latest TPS which is tracked off-thread.
+     */
+    public WorldSnapshot asStale(WorldTpsMetrics currentTps, long unresponsiveMillis) {
+        return new WorldSnapshot(
+            name,
+            ticking,
+            paused,
+            loadedChunks,
+            totalGeneratedChunks,
+            totalLoadedChunks,
+            entityCount,
+            archetypeChunkCount,
+            avgTickNanos,
+            currentTps != null ? currentTps : tps,
+            chunkRates,
+            entityCensus,
+            systemTimings,
+            true,
+            unresponsiveMillis
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.nodecraft.hytale.flare.model;
+
+// averageTps/minTps/maxTps cover the last 5 minutes
+public record WorldTpsMetrics(
+    String worldName,
+    double currentTps,
+    double averageTps,
+    double minTps,
+    double maxTps,
+    double avgTickNanos,
+    long tickStepNanos,
+    PercentileSummary tickTime1s,
+    PercentileSummary tickTime10s,
+    PercentileSummary tickTime1m,
+    PercentileSummary tickTime5m
+) {}
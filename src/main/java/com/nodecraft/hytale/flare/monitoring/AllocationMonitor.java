@@ -0,0 +1,230 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.AllocationMetrics;
+import com.nodecraft.hytale.flare.util.LongLongHashMap;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes allocation rates for the process, each world's tick thread and the top allocating threads.
+ *
+ * Allocated bytes for every live thread are read with one batched
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long[])} call and diffed against the
+ * previous sample in a primitive map. The process rate comes from
+ * {@link com.sun.management.ThreadMXBean#getTotalThreadAllocatedBytes()} instead, which also counts
+ * threads that exited during the interval. A world's tick thread is found by running a one-off task on the
+ * world's executor and remembering which thread ran it.
+ */
+public final class AllocationMonitor implements Monitor<AllocationMetrics> {
+    private static final int TOP_THREADS = 10;
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final AllocationMetrics EMPTY = new AllocationMetrics(0.0, 0L, 0L, List.of(), List.of());
+
+    private final MonitorConfig config;
+    private final java.lang.management.ThreadMXBean threadBean;
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final ThreadIdCache threadIds;
+    private final Map<String, Long> worldThreadIds = new ConcurrentHashMap<>();
+    private final Set<String> pendingWorldProbes = ConcurrentHashMap.newKeySet();
+
+    private LongLongHashMap previousBytes = new LongLongHashMap();
+    private LongLongHashMap currentBytes = new LongLongHashMap();
+    private long previousTotalBytes = -1L;
+    private long lastSampleNanos = 0L;
+    private boolean hasBaseline = false;
+    private AllocationMetrics lastMetrics = EMPTY;
+
+    private final long[] topIds = new long[TOP_THREADS];
+    private final long[] topBytes = new long[TOP_THREADS];
+
+    public AllocationMonitor(MonitorConfig config) {
+        this.config = config;
+        this.threadBean = ManagementFactory.getThreadMXBean();
+        this.allocationBean = threadBean instanceof com.sun.management.ThreadMXBean extended
+                && extended.isThreadAllocatedMemorySupported()
+                ? extended
+                : null;
+        this.threadIds = new ThreadIdCache(threadBean);
+        if (isEnabled()) {
+            if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            // Baseline so the first collect already has rates
+            collect();
+        }
+    }
+
+    /**
+     * Enabled when configured and the JVM can report per-thread allocated bytes.
+     */
+    @Override
+    public String getName() {
+        return "allocation";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled() && allocationBean != null;
+    }
+
+    @Override
+    public synchronized AllocationMetrics collect() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (hasBaseline && now - lastSampleNanos < MIN_INTERVAL_NANOS) {
+            return lastMetrics;
+        }
+
+        probeWorldThreads();
+
+        long[] ids = threadIds.get();
+        long[] allocated = allocationBean.getThreadAllocatedBytes(ids);
+        long totalBytes = allocationBean.getTotalThreadAllocatedBytes();
+        long threadDelta = 0L;
+        int topCount = 0;
+        currentBytes.clear();
+        for (int i = 0; i < ids.length; i++) {
+            long bytes = allocated[i];
+            if (bytes < 0L) {
+                // Thread exited since the ID array was read
+                continue;
+            }
+            currentBytes.put(ids[i], bytes);
+            if (hasBaseline) {
+                long delta = Math.max(0L, bytes - previousBytes.get(ids[i], 0L));
+                threadDelta += delta;
+                topCount = offerTop(topCount, ids[i], delta);
+            }
+        }
+
+        // Falls back to the live-thread sum when the total is unsupported
+        long totalDelta = totalBytes >= 0L && previousTotalBytes >= 0L
+                ? Math.max(0L, totalBytes - previousTotalBytes)
+                : threadDelta;
+        long intervalNanos = now - lastSampleNanos;
+        AllocationMetrics metrics = EMPTY;
+        if (hasBaseline && intervalNanos > 0L) {
+            double seconds = intervalNanos / 1_000_000_000.0;
+            metrics = new AllocationMetrics(
+                    totalDelta / seconds,
+                    totalDelta,
+                    intervalNanos,
+                    buildWorlds(seconds),
+                    buildTop(topCount, seconds)
+            );
+        }
+
+        LongLongHashMap swap = previousBytes;
+        previousBytes = currentBytes;
+        currentBytes = swap;
+        previousTotalBytes = totalBytes;
+        lastSampleNanos = now;
+        hasBaseline = true;
+        lastMetrics = metrics;
+        return metrics;
+    }
+
+    /**
+     * Queues a task on every world whose tick thread is not known yet and forgets unloaded worlds.
+     */
+    private void probeWorldThreads() {
+        Universe universe = Universe.get();
+        if (universe == null) {
+            // Not started yet
+            return;
+        }
+        Map<String, World> worlds = universe.getWorlds();
+        worldThreadIds.keySet().retainAll(worlds.keySet());
+        for (Map.Entry<String, World> entry : worlds.entrySet()) {
+            String name = entry.getKey();
+            if (worldThreadIds.containsKey(name) || !pendingWorldProbes.add(name)) {
+                continue;
+            }
+            try {
+                entry.getValue().execute(() -> {
+                    worldThreadIds.put(name, Thread.currentThread().threadId());
+                    pendingWorldProbes.remove(name);
+                });
+            } catch (Exception e) {
+                // World is shutting down, try again next time
+                pendingWorldProbes.remove(name);
+            }
+        }
+    }
+
+    private List<AllocationMetrics.WorldAllocation> buildWorlds(double seconds) {
+        List<AllocationMetrics.WorldAllocation> worlds = new ArrayList<>(worldThreadIds.size());
+        for (Map.Entry<String, Long> entry : worldThreadIds.entrySet()) {
+            long threadId = entry.getValue();
+            long bytes = currentBytes.get(threadId, -1L);
+            if (bytes < 0L) {
+                // The tick thread is gone, find the new one next time
+                worldThreadIds.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            long before = previousBytes.get(threadId, -1L);
+            if (before < 0L) {
+                continue;
+            }
+            long delta = Math.max(0L, bytes - before);
+            worlds.add(new AllocationMetrics.WorldAllocation(entry.getKey(), threadId, delta, delta / seconds));
+        }
+        worlds.sort(Comparator.comparingDouble(AllocationMetrics.WorldAllocation::bytesPerSecond).reversed());
+        return List.copyOf(worlds);
+    }
+
+    private int offerTop(int count, long id, long bytes) {
+        if (bytes <= 0L || (count == TOP_THREADS && bytes <= topBytes[count - 1])) {
+            return count;
+        }
+        int position = Math.min(count, TOP_THREADS - 1);
+        while (position > 0 && topBytes[position - 1] < bytes) {
+            topIds[position] = topIds[position - 1];
+            topBytes[position] = topBytes[position - 1];
+            position--;
+        }
+        topIds[position] = id;
+        topBytes[position] = bytes;
+        return Math.min(count + 1, TOP_THREADS);
+    }
+
+    private List<AllocationMetrics.ThreadAllocation> buildTop(int count, double seconds) {
+        if (count == 0) {
+            return List.of();
+        }
+        long[] ids = new long[count];
+        System.arraycopy(topIds, 0, ids, 0, count);
+        ThreadInfo[] infos = threadBean.getThreadInfo(ids, 0);
+
+        List<AllocationMetrics.ThreadAllocation> top = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ThreadInfo info = infos != null ? infos[i] : null;
+            top.add(new AllocationMetrics.ThreadAllocation(
+                    ids[i],
+                    info != null ? info.getThreadName() : "<exited>",
+                    topBytes[i],
+                    topBytes[i] / seconds
+            ));
+        }
+        return List.copyOf(top);
+    }
+}
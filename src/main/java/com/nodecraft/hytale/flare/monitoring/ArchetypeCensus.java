@@ -0,0 +1,130 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.hypixel.hytale.component.Archetype;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.nodecraft.hytale.flare.config.EntityCensusConfig;
+import com.nodecraft.hytale.flare.model.EntityCensus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts one world's entities per archetype by walking the entity store's archetype chunks.
+ *
+ * Must be called on the world thread. Each call spends at most the configured budget; a pass that does
+ * not fit resumes at the chunk where it stopped on the next call. Chunks before the resume point are still
+ * visited by the store iteration but skipped without any work. A new pass starts only once the configured
+ * interval has passed since the previous one started.
+ */
+final class ArchetypeCensus {
+    private final EntityCensusConfig config;
+
+    private final Map<Archetype<EntityStore>, long[]> counts = new HashMap<>();
+    private int resumeIndex = 0;
+    private boolean passActive = false;
+    private long passStartNanos;
+    private long passScanNanos;
+    private int passCollections;
+    private EntityCensus lastCensus;
+
+    // Per-call iteration state, kept in fields so the chunk callback does not capture locals
+    private int chunkIndex;
+    private int visitedThisCall;
+    private long callDeadlineNanos;
+    private boolean budgetExhausted;
+
+    ArchetypeCensus(EntityCensusConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Advances the current pass if one is due and returns the newest completed census, or null if none has
+     * completed yet.
+     */
+    EntityCensus advance(Store<EntityStore> store, long now) {
+        if (!passActive) {
+            if (lastCensus != null && now - passStartNanos < config.getInterval().toNanos()) {
+                return lastCensus;
+            }
+            passActive = true;
+            passStartNanos = now;
+            passScanNanos = 0L;
+            passCollections = 0;
+            resumeIndex = 0;
+            counts.clear();
+        }
+
+        long callStart = System.nanoTime();
+        chunkIndex = 0;
+        visitedThisCall = 0;
+        callDeadlineNanos = callStart + config.getBudgetMicros() * 1_000L;
+        budgetExhausted = false;
+        store.forEachChunk(Query.any(), (chunk, commandBuffer) -> visit(chunk));
+        passScanNanos += System.nanoTime() - callStart;
+        passCollections++;
+
+        if (budgetExhausted) {
+            return lastCensus;
+        }
+        lastCensus = finish(store);
+        passActive = false;
+        counts.clear();
+        return lastCensus;
+    }
+
+    private void visit(ArchetypeChunk<EntityStore> chunk) {
+        int index = chunkIndex++;
+        if (budgetExhausted || index < resumeIndex) {
+            return;
+        }
+        // Checking the clock every 16 chunks keeps its overhead low; the first 16 always run so a pass
+        // makes progress even with a tiny budget
+        if (visitedThisCall > 0 && (visitedThisCall & 15) == 0 && System.nanoTime() >= callDeadlineNanos) {
+            budgetExhausted = true;
+            resumeIndex = index;
+            return;
+        }
+        visitedThisCall++;
+        long[] slot = counts.computeIfAbsent(chunk.getArchetype(), archetype -> new long[2]);
+        slot[0] += chunk.size();
+        slot[1]++;
+    }
+
+    private EntityCensus finish(Store<EntityStore> store) {
+        int limit = config.getTopArchetypes();
+        List<Map.Entry<Archetype<EntityStore>, long[]>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+
+        long entityCount = 0L;
+        for (Map.Entry<Archetype<EntityStore>, long[]> entry : entries) {
+            entityCount += entry.getValue()[0];
+        }
+
+        List<EntityCensus.ArchetypeCount> top = new ArrayList<>(Math.min(limit, entries.size()));
+        for (int i = 0; i < entries.size() && i < limit; i++) {
+            Map.Entry<Archetype<EntityStore>, long[]> entry = entries.get(i);
+            top.add(new EntityCensus.ArchetypeCount(
+                    String.valueOf(entry.getKey()),
+                    entry.getValue()[0],
+                    (int) entry.getValue()[1]
+            ));
+        }
+
+        int chunkCount = store.getArchetypeChunkCount();
+        return new EntityCensus(
+                System.currentTimeMillis(),
+                passScanNanos,
+                passCollections,
+                entityCount,
+                chunkCount,
+                entries.size(),
+                chunkCount > 0 ? (double) store.getEntityCount() / chunkCount : 0.0,
+                top
+        );
+    }
+}
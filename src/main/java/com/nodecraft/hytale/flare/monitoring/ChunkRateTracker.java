@@ -0,0 +1,58 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.model.ChunkRates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns one world's monotonically increasing chunk counters into rates.
+ *
+ * The baseline only advances once {@link #MIN_INTERVAL_NANOS} has passed, so collections from commands
+ * interleaved with the profiler's do not produce rates over a few milliseconds; in between, the last
+ * computed rates are returned.
+ */
+final class ChunkRateTracker {
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private long lastNanos;
+    private long lastLoadedChunks;
+    private long lastTotalGenerated;
+    private long lastTotalLoaded;
+    private boolean hasBaseline = false;
+    private ChunkRates lastRates = ChunkRates.EMPTY;
+
+    synchronized ChunkRates update(long now, int loadedChunks, int totalGenerated, int totalLoaded) {
+        if (hasBaseline && (totalLoaded < lastTotalLoaded || totalGenerated < lastTotalGenerated)) {
+            // Counters only go backwards when the world was reloaded; start over from the new counters
+            hasBaseline = false;
+            lastRates = ChunkRates.EMPTY;
+        }
+        if (hasBaseline && now - lastNanos < MIN_INTERVAL_NANOS) {
+            return lastRates;
+        }
+
+        if (hasBaseline) {
+            long intervalNanos = now - lastNanos;
+            long generated = totalGenerated - lastTotalGenerated;
+            long loaded = totalLoaded - lastTotalLoaded;
+            long unloaded = Math.max(0L, loaded - (loadedChunks - lastLoadedChunks));
+            double seconds = intervalNanos / 1_000_000_000.0;
+            lastRates = new ChunkRates(
+                    intervalNanos,
+                    generated,
+                    loaded,
+                    unloaded,
+                    generated / seconds,
+                    loaded / seconds,
+                    unloaded / seconds
+            );
+        }
+
+        lastNanos = now;
+        lastLoadedChunks = loadedChunks;
+        lastTotalGenerated = totalGenerated;
+        lastTotalLoaded = totalLoaded;
+        hasBaseline = true;
+        return lastRates;
+    }
+}
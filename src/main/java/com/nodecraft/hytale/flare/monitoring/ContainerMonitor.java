@@ -0,0 +1,207 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.ContainerMetrics;
+import com.nodecraft.hytale.flare.util.ProcFileReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports cgroup v2 CPU throttling, memory usage against the limit, and pressure stall information.
+ *
+ * Files are read into one reusable {@link ProcFileReader} buffer each collection. Counter deltas are
+ * relative to the previous collection, so throttling can be lined up with TPS drops in the same snapshot.
+ * Collecting moves the baselines, so commands read {@link #latest()} and don't shorten the profiler's
+ * deltas.
+ */
+public final class ContainerMonitor implements Monitor<ContainerMetrics> {
+    private static final Path CGROUP_ROOT = Path.of("/sys/fs/cgroup");
+    private static final long LATEST_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final MonitorConfig config;
+    private final Path cgroupDir;
+    private final ProcFileReader reader = new ProcFileReader(4096);
+    // Resolved once; null without a cgroup v2 hierarchy
+    private final Path cpuMaxFile;
+    private final Path cpuStatFile;
+    private final Path memoryCurrentFile;
+    private final Path memoryMaxFile;
+    private final Path memoryEventsFile;
+    private final Path cpuPressureFile;
+    private final Path memoryPressureFile;
+    private final Path ioPressureFile;
+
+    private ContainerMetrics lastMetrics = null;
+    private long lastCollectNanos = 0L;
+    private long lastUsageUsec = -1L;
+    private long lastPeriods = -1L;
+    private long lastThrottledPeriods = -1L;
+    private long lastThrottledUsec = -1L;
+    private final long[] lastStallTotals = {-1L, -1L, -1L, -1L, -1L, -1L};
+
+    public ContainerMonitor(MonitorConfig config) {
+        this.config = config;
+        this.cgroupDir = resolveCgroupDir();
+        this.cpuMaxFile = resolve("cpu.max");
+        this.cpuStatFile = resolve("cpu.stat");
+        this.memoryCurrentFile = resolve("memory.current");
+        this.memoryMaxFile = resolve("memory.max");
+        this.memoryEventsFile = resolve("memory.events");
+        this.cpuPressureFile = resolve("cpu.pressure");
+        this.memoryPressureFile = resolve("memory.pressure");
+        this.ioPressureFile = resolve("io.pressure");
+    }
+
+    @Override
+    public String getName() {
+        return "container";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public synchronized ContainerMetrics collect() {
+        if (!isEnabled()) {
+            return null;
+        }
+        if (cgroupDir == null) {
+            return ContainerMetrics.unavailable();
+        }
+
+        long now = System.nanoTime();
+        long intervalNanos = lastCollectNanos > 0L ? now - lastCollectNanos : 0L;
+        lastCollectNanos = now;
+
+        double cpuLimitCores = -1.0;
+        if (reader.read(cpuMaxFile)) {
+            long quota = reader.firstLong();
+            long period = reader.secondLong();
+            if (quota != ProcFileReader.UNLIMITED && quota > 0L && period > 0L) {
+                cpuLimitCores = (double) quota / period;
+            }
+        }
+
+        long usageUsec = -1L;
+        long periods = 0L;
+        long throttledPeriods = 0L;
+        long throttledUsec = 0L;
+        if (reader.read(cpuStatFile)) {
+            usageUsec = reader.longField("usage_usec");
+            periods = Math.max(0L, reader.longField("nr_periods"));
+            throttledPeriods = Math.max(0L, reader.longField("nr_throttled"));
+            throttledUsec = Math.max(0L, reader.longField("throttled_usec"));
+        }
+        double cpuUsageCores = intervalNanos > 0L && usageUsec >= 0L && lastUsageUsec >= 0L
+                ? (usageUsec - lastUsageUsec) * 1000.0 / intervalNanos
+                : 0.0;
+        long periodsDelta = delta(periods, lastPeriods);
+        long throttledPeriodsDelta = delta(throttledPeriods, lastThrottledPeriods);
+        long throttledUsecDelta = delta(throttledUsec, lastThrottledUsec);
+        lastUsageUsec = usageUsec;
+        lastPeriods = periods;
+        lastThrottledPeriods = throttledPeriods;
+        lastThrottledUsec = throttledUsec;
+
+        long memoryCurrent = readSingleValue(memoryCurrentFile);
+        long memoryMax = readSingleValue(memoryMaxFile);
+        long oomKills = 0L;
+        if (reader.read(memoryEventsFile)) {
+            oomKills = Math.max(0L, reader.longField("oom_kill"));
+        }
+
+        lastMetrics = new ContainerMetrics(
+                true,
+                intervalNanos,
+                cpuLimitCores,
+                cpuUsageCores,
+                periods,
+                throttledPeriods,
+                throttledUsec,
+                periodsDelta,
+                throttledPeriodsDelta,
+                throttledUsecDelta,
+                memoryCurrent,
+                memoryMax == ProcFileReader.UNLIMITED ? -1L : memoryMax,
+                oomKills,
+                readPressure(cpuPressureFile, 0),
+                readPressure(memoryPressureFile, 2),
+                readPressure(ioPressureFile, 4)
+        );
+        return lastMetrics;
+    }
+
+    /**
+     * Returns the last collected metrics for display. Only collects when nothing collected them in the
+     * last 30 seconds, e.g. while no profile is running, so the deltas stay those of the profiler.
+     */
+    public synchronized ContainerMetrics latest() {
+        if (lastMetrics != null && isEnabled() && System.nanoTime() - lastCollectNanos < LATEST_MAX_AGE_NANOS) {
+            return lastMetrics;
+        }
+        return collect();
+    }
+
+    private long readSingleValue(Path file) {
+        return reader.read(file) ? reader.firstLong() : -1L;
+    }
+
+    private ContainerMetrics.Pressure readPressure(Path file, int totalsIndex) {
+        if (!reader.read(file)) {
+            return null;
+        }
+        long someTotal = reader.longAttribute("some", "total");
+        long fullTotal = reader.longAttribute("full", "total");
+        ContainerMetrics.Pressure pressure = new ContainerMetrics.Pressure(
+                reader.doubleAttribute("some", "avg10"),
+                reader.doubleAttribute("some", "avg60"),
+                reader.doubleAttribute("full", "avg10"),
+                reader.doubleAttribute("full", "avg60"),
+                delta(someTotal, lastStallTotals[totalsIndex]),
+                delta(fullTotal, lastStallTotals[totalsIndex + 1])
+        );
+        lastStallTotals[totalsIndex] = someTotal;
+        lastStallTotals[totalsIndex + 1] = fullTotal;
+        return pressure;
+    }
+
+    private Path resolve(String file) {
+        return cgroupDir != null ? cgroupDir.resolve(file) : null;
+    }
+
+    private static long delta(long current, long previous) {
+        return current >= 0L && previous >= 0L ? Math.max(0L, current - previous) : 0L;
+    }
+
+    /**
+     * Finds this process's cgroup v2 directory, or null on cgroup v1 and non-Linux systems.
+     */
+    private static Path resolveCgroupDir() {
+        if (!Files.exists(CGROUP_ROOT.resolve("cgroup.controllers"))) {
+            return null;
+        }
+        try {
+            // The unified hierarchy is the "0::<path>" line
+            for (String line : Files.readAllLines(Path.of("/proc/self/cgroup"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("0::")) {
+                    Path dir = CGROUP_ROOT.resolve(line.substring(3).replaceFirst("^/", ""));
+                    // Inside a cgroup namespace the path may not be visible; the root is our cgroup then
+                    return Files.exists(dir.resolve("cpu.stat")) ? dir : CGROUP_ROOT;
+                }
+            }
+        } catch (Exception e) {
+            // Fall through to the root
+        }
+        return CGROUP_ROOT;
+    }
+}
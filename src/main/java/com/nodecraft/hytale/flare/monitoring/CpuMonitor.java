@@ -6,7 +6,7 @@ import com.nodecraft.hytale.flare.util.JmxUtil;
 
 import java.lang.management.OperatingSystemMXBean;
 
-public final class CpuMonitor {
+public final class CpuMonitor implements Monitor<CpuMetrics> {
     private final MonitorConfig config;
     private final OperatingSystemMXBean osBean;
 
@@ -15,10 +15,22 @@ public final class CpuMonitor {
         this.osBean = JmxUtil.getOperatingSystemMXBean();
     }
 
+    @Override
+    public String getName() {
+        return "cpu";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
     public boolean isEnabled() {
         return config.isEnabled();
     }
 
+    @Override
     public CpuMetrics collect() {
         if (!isEnabled()) {
             return null;
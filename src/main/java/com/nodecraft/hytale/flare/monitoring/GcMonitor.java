@@ -2,26 +2,89 @@ package com.nodecraft.hytale.flare.monitoring;
 
 import com.nodecraft.hytale.flare.config.MonitorConfig;
 import com.nodecraft.hytale.flare.model.GcMetrics;
+import com.nodecraft.hytale.flare.model.GcPauseEvent;
+import com.nodecraft.hytale.flare.model.PercentileSummary;
+import com.nodecraft.hytale.flare.util.ConcurrentRingBuffer;
+import com.nodecraft.hytale.flare.util.WindowedHistogram;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
 
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
 import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public final class GcMonitor implements Monitor<GcMetrics> {
+    private static final int PAUSE_HISTORY_CAPACITY = 1024;
+    private static final int RECENT_PAUSES_FOR_COMMANDS = 10;
+    private static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int SLOT_COUNT = 30; // 5 minutes of 10 second slots
+    private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long FIVE_MINUTES_NANOS = TimeUnit.MINUTES.toNanos(5);
 
-public final class GcMonitor {
     private final MonitorConfig config;
     private final List<GarbageCollectorMXBean> gcBeans;
+    private final long jvmStartTimeMillis;
+    private final ConcurrentRingBuffer<GcPauseEvent> pauseHistory = new ConcurrentRingBuffer<>(PAUSE_HISTORY_CAPACITY);
+    private final WindowedHistogram pauseHistogram = new WindowedHistogram(SLOT_NANOS, SLOT_COUNT);
+    private final Set<String> heapPoolNames = new HashSet<>();
+    private final LiveSetTracker liveSetTracker = new LiveSetTracker();
+    private final NotificationListener listener = this::handleNotification;
+    private final List<NotificationEmitter> registeredEmitters = new ArrayList<>();
 
     public GcMonitor(MonitorConfig config) {
         this.config = config;
         this.gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.jvmStartTimeMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPoolNames.add(pool.getName());
+            }
+        }
+        if (isEnabled()) {
+            registerListeners();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "gc";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.EXPENSIVE;
     }
 
+    @Override
     public boolean isEnabled() {
         return config.isEnabled();
     }
 
+    /**
+     * Collects GC metrics including the most recent pause events, for on-demand display.
+     */
+    @Override
     public GcMetrics collect() {
+        return collect(pauseHistory.lastSequence() - RECENT_PAUSES_FOR_COMMANDS);
+    }
+
+    /**
+     * Collects GC metrics including every retained pause event after {@code afterSequence}.
+     * Callers keep the returned {@link GcMetrics#lastPauseSequence()} to read only new events next time.
+     */
+    public GcMetrics collect(long afterSequence) {
         if (!isEnabled()) {
             return null;
         }
@@ -29,8 +92,6 @@ public final class GcMonitor {
         List<GcMetrics.GcCollectorInfo> collectors = new ArrayList<>();
         long totalCollections = 0;
         long totalCollectionTime = 0;
-        long lastCollectionTime = 0;
-        long lastCollectionDuration = 0;
 
         for (GarbageCollectorMXBean gcBean : gcBeans) {
             long count = gcBean.getCollectionCount();
@@ -46,25 +107,189 @@ public final class GcMonitor {
 
             totalCollections += count;
             totalCollectionTime += time;
-
-            // Track most recent collection (simplified - in real implementation would track via notifications)
-            if (time > lastCollectionTime) {
-                lastCollectionTime = time;
-                lastCollectionDuration = time; // Simplified
-            }
         }
 
         double averagePauseTime = totalCollections > 0
                 ? (double) totalCollectionTime / totalCollections
                 : 0.0;
 
+        long lastSequence = pauseHistory.lastSequence();
+        List<GcPauseEvent> recentPauses = pauseHistory.between(afterSequence, lastSequence);
+        long lastCollectionTime = 0;
+        long lastCollectionDuration = 0;
+        List<GcPauseEvent> latest = pauseHistory.latest(1);
+        if (!latest.isEmpty()) {
+            GcPauseEvent last = latest.get(0);
+            lastCollectionTime = last.startTimeMillis();
+            lastCollectionDuration = last.durationMillis();
+        }
+
+        long now = System.nanoTime();
+        PercentileSummary pauses1m = PercentileSummary.from(pauseHistogram.snapshot(now, ONE_MINUTE_NANOS));
+        PercentileSummary pauses5m = PercentileSummary.from(pauseHistogram.snapshot(now, FIVE_MINUTES_NANOS));
+
         return new GcMetrics(
                 collectors,
                 totalCollections,
                 totalCollectionTime,
                 averagePauseTime,
                 lastCollectionTime,
-                lastCollectionDuration
+                lastCollectionDuration,
+                pauses1m,
+                pauses5m,
+                recentPauses,
+                lastSequence
         );
     }
+
+    /**
+     * Returns the sequence number of the newest recorded pause event.
+     */
+    public long getLastPauseSequence() {
+        return pauseHistory.lastSequence();
+    }
+
+    /**
+     * Returns the live-set trend, fed by the old, full and mixed collections seen so far, or by the
+     * whole-heap cycles of ZGC and Shenandoah.
+     */
+    LiveSetTracker.Trend getLiveSetTrend(long nowMillis) {
+        return liveSetTracker.trend(nowMillis);
+    }
+
+    /**
+     * Unregisters the GC notification listeners. Should be called when the plugin shuts down.
+     */
+    public void close() {
+        synchronized (registeredEmitters) {
+            for (NotificationEmitter emitter : registeredEmitters) {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (Exception ignored) {
+                    // Listener was already removed
+                }
+            }
+            registeredEmitters.clear();
+        }
+    }
+
+    private void registerListeners() {
+        synchronized (registeredEmitters) {
+            for (GarbageCollectorMXBean gcBean : gcBeans) {
+                if (gcBean instanceof NotificationEmitter emitter) {
+                    emitter.addNotificationListener(listener, null, null);
+                    registeredEmitters.add(emitter);
+                }
+            }
+        }
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        GcInfo gcInfo = info.getGcInfo();
+        String action = info.getGcAction();
+        boolean concurrent = isConcurrent(info.getGcName(), action);
+
+        List<GcPauseEvent.PoolUsage> pools = new ArrayList<>();
+        Map<String, MemoryUsage> before = gcInfo.getMemoryUsageBeforeGc();
+        Map<String, MemoryUsage> after = gcInfo.getMemoryUsageAfterGc();
+        for (Map.Entry<String, MemoryUsage> entry : before.entrySet()) {
+            MemoryUsage beforeUsage = entry.getValue();
+            MemoryUsage afterUsage = after.get(entry.getKey());
+            if (beforeUsage == null || afterUsage == null) {
+                continue;
+            }
+            pools.add(new GcPauseEvent.PoolUsage(
+                    entry.getKey(),
+                    beforeUsage.getUsed(),
+                    afterUsage.getUsed(),
+                    beforeUsage.getCommitted(),
+                    afterUsage.getCommitted()
+            ));
+        }
+
+        pauseHistory.add(new GcPauseEvent(
+                info.getGcName(),
+                action,
+                info.getGcCause(),
+                jvmStartTimeMillis + gcInfo.getStartTime(),
+                gcInfo.getDuration(),
+                concurrent,
+                pools
+        ));
+
+        if (!concurrent) {
+            pauseHistogram.record(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(gcInfo.getDuration()));
+            if (collectsOldGen(action, before, after)) {
+                recordLiveSet(after);
+            }
+        } else if (isWholeHeapCycle(info.getGcName())) {
+            recordLiveSet(after);
+        }
+    }
+
+    /**
+     * True for old and full collections, and for young collections that also reclaimed old-gen space
+     * (G1 mixed). Young-only collections leave the old gen untouched, so their post-GC heap still
+     * holds everything promoted since the last old collection and would overstate the live set.
+     */
+    private boolean collectsOldGen(String action, Map<String, MemoryUsage> before, Map<String, MemoryUsage> after) {
+        if (action != null && action.contains("major")) {
+            return true;
+        }
+        for (Map.Entry<String, MemoryUsage> entry : before.entrySet()) {
+            if (!isOldGenPool(entry.getKey())) {
+                continue;
+            }
+            MemoryUsage afterUsage = after.get(entry.getKey());
+            if (entry.getValue() != null && afterUsage != null && afterUsage.getUsed() < entry.getValue().getUsed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isOldGenPool(String poolName) {
+        return heapPoolNames.contains(poolName) && (poolName.contains("Old") || poolName.contains("Tenured"));
+    }
+
+    private void recordLiveSet(Map<String, MemoryUsage> after) {
+        // The live set is what is left in the heap pools right after the collection
+        long liveSet = 0L;
+        boolean sawHeapPool = false;
+        for (Map.Entry<String, MemoryUsage> entry : after.entrySet()) {
+            if (heapPoolNames.contains(entry.getKey()) && entry.getValue() != null) {
+                liveSet += entry.getValue().getUsed();
+                sawHeapPool = true;
+            }
+        }
+        if (sawHeapPool) {
+            liveSetTracker.record(System.currentTimeMillis(), liveSet);
+        }
+    }
+
+    /**
+     * Whole-heap concurrent cycles of ZGC and Shenandoah. Their pauses free nothing, so these cycles are
+     * the only post-GC usage those collectors report.
+     * Usage after a cycle also holds what was allocated while it ran, which the tracker's per-minute
+     * minimum mostly absorbs. Generational ZGC's minor cycles only collect the young generation.
+     */
+    private static boolean isWholeHeapCycle(String gcName) {
+        return "ZGC Cycles".equals(gcName)
+                || "ZGC Major Cycles".equals(gcName)
+                || "Shenandoah Cycles".equals(gcName);
+    }
+
+    private static boolean isConcurrent(String gcName, String action) {
+        // G1/ZGC/Shenandoah report whole concurrent cycles separately from their stop-the-world pauses
+        if (action != null && action.toLowerCase().contains("cycle")) {
+            return true;
+        }
+        return gcName != null && gcName.endsWith("Cycles");
+    }
 }
@@ -2,27 +2,95 @@ package com.nodecraft.hytale.flare.monitoring;
 
 import com.nodecraft.hytale.flare.config.MonitorConfig;
 import com.nodecraft.hytale.flare.model.HeapMetrics;
+import com.nodecraft.hytale.flare.model.MemoryPoolMetrics;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
 
-public final class HeapMonitor {
+public final class HeapMonitor implements Monitor<HeapMetrics> {
     private final MonitorConfig config;
     private final MemoryMXBean memoryBean;
+    private final List<MemoryPoolMXBean> poolBeans;
+    private final GcMonitor gcMonitor;
 
-    public HeapMonitor(MonitorConfig config) {
+    /**
+     * The live-set trend comes from {@code gcMonitor}'s GC notifications, so it stays empty while
+     * the GC monitor is disabled.
+     */
+    public HeapMonitor(MonitorConfig config, GcMonitor gcMonitor) {
         this.config = config;
         this.memoryBean = ManagementFactory.getMemoryMXBean();
+        this.poolBeans = ManagementFactory.getMemoryPoolMXBeans();
+        this.gcMonitor = gcMonitor;
     }
 
+    @Override
+    public String getName() {
+        return "heap";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.EXPENSIVE;
+    }
+
+    @Override
     public boolean isEnabled() {
         return config.isEnabled();
     }
 
+    @Override
     public HeapMetrics collect() {
         if (!isEnabled()) {
             return null;
         }
         return HeapMetrics.fromMemoryUsage(memoryBean.getHeapMemoryUsage());
     }
+
+    /**
+     * Collects usage, peak and post-GC usage for every heap and non-heap pool (eden, old gen,
+     * metaspace, code cache, ...) together with the live-set trend.
+     */
+    public MemoryPoolMetrics collectPools() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        List<MemoryPoolMetrics.PoolUsage> pools = new ArrayList<>(poolBeans.size());
+        for (MemoryPoolMXBean pool : poolBeans) {
+            if (!pool.isValid()) {
+                continue;
+            }
+            MemoryUsage usage = pool.getUsage();
+            if (usage == null) {
+                continue;
+            }
+            MemoryUsage peak = pool.getPeakUsage();
+            // Null for pools that are not managed by a collector, such as the code cache
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            pools.add(new MemoryPoolMetrics.PoolUsage(
+                    pool.getName(),
+                    pool.getType() == MemoryType.HEAP,
+                    usage.getUsed(),
+                    usage.getCommitted(),
+                    usage.getMax(),
+                    peak != null ? peak.getUsed() : usage.getUsed(),
+                    afterGc != null ? afterGc.getUsed() : -1L
+            ));
+        }
+
+        LiveSetTracker.Trend trend = gcMonitor.getLiveSetTrend(System.currentTimeMillis());
+        return new MemoryPoolMetrics(
+                pools,
+                trend.liveSetBytes(),
+                trend.slopeMbPerHour(),
+                trend.samples(),
+                trend.windowMillis()
+        );
+    }
 }
@@ -0,0 +1,312 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.IoMetrics;
+import com.nodecraft.hytale.flare.util.JmxUtil;
+import com.nodecraft.hytale.flare.util.ProcFileReader;
+
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports process I/O from {@code /proc/self/io}, open file descriptors, and {@code /proc/diskstats} for
+ * the block devices that hold the world saves, so slow saves and disk contention show up next to TPS.
+ *
+ * Kernel files are read into reusable {@link ProcFileReader} buffers. A world's save device is resolved
+ * once per save path through {@code /proc/self/mountinfo} and {@code /sys/dev/block}.
+ *
+ * Collecting moves the counter baselines and drains the world save durations, so commands read
+ * {@link #latest()} and leave collecting to the profiler.
+ */
+public final class IoMonitor implements Monitor<IoMetrics> {
+    private static final Path PROC_IO = Path.of("/proc/self/io");
+    private static final Path DISKSTATS = Path.of("/proc/diskstats");
+    private static final Path MOUNTINFO = Path.of("/proc/self/mountinfo");
+    private static final Path SYS_DEV_BLOCK = Path.of("/sys/dev/block");
+    private static final long SECTOR_BYTES = 512L; // diskstats sectors are always 512 bytes
+    private static final String NO_DEVICE = "";
+    private static final long LATEST_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    // Columns of /proc/diskstats after the device name
+    private static final int READS = 0;
+    private static final int SECTORS_READ = 2;
+    private static final int READ_MILLIS = 3;
+    private static final int WRITES = 4;
+    private static final int SECTORS_WRITTEN = 6;
+    private static final int WRITE_MILLIS = 7;
+    private static final int IN_FLIGHT = 8;
+    private static final int IO_MILLIS = 9;
+    private static final int DISK_COLUMNS = 10;
+
+    private final MonitorConfig config;
+    private final OperatingSystemMXBean osBean;
+    private final ProcFileReader ioReader = new ProcFileReader(512);
+    // One line per block device and partition, so leave room for hosts with many disks
+    private final ProcFileReader diskReader = new ProcFileReader(64 * 1024);
+    private final Map<String, String> devicesBySavePath = new HashMap<>();
+    private final Map<String, DeviceState> devices = new HashMap<>();
+    private final Map<String, SaveStats> worldSaves = new ConcurrentHashMap<>();
+
+    private IoMetrics lastMetrics = null;
+    private long lastCollectNanos = 0L;
+    private long lastReadBytes = -1L;
+    private long lastWriteBytes = -1L;
+    private long lastReadChars = -1L;
+    private long lastWriteChars = -1L;
+    private long lastReadSyscalls = -1L;
+    private long lastWriteSyscalls = -1L;
+    private long lastCancelledWriteBytes = -1L;
+
+    public IoMonitor(MonitorConfig config) {
+        this.config = config;
+        this.osBean = JmxUtil.getOperatingSystemMXBean();
+    }
+
+    @Override
+    public String getName() {
+        return "io";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Records how long a world save took. The server has no save event, so whatever wraps world saving
+     * reports here; the count, total and maximum are reported and reset on the next collection.
+     */
+    public void recordWorldSave(String worldName, long durationNanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        SaveStats stats = worldSaves.computeIfAbsent(worldName, name -> new SaveStats());
+        stats.count.increment();
+        stats.totalNanos.add(durationNanos);
+        stats.maxNanos.accumulateAndGet(durationNanos, Math::max);
+    }
+
+    @Override
+    public synchronized IoMetrics collect() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        long intervalNanos = lastCollectNanos > 0L ? now - lastCollectNanos : 0L;
+        lastCollectNanos = now;
+
+        boolean processIoAvailable = ioReader.read(PROC_IO);
+        long readBytes = processIoAvailable ? ioReader.longField("read_bytes:") : -1L;
+        long writeBytes = processIoAvailable ? ioReader.longField("write_bytes:") : -1L;
+        long readChars = processIoAvailable ? ioReader.longField("rchar:") : -1L;
+        long writeChars = processIoAvailable ? ioReader.longField("wchar:") : -1L;
+        long readSyscalls = processIoAvailable ? ioReader.longField("syscr:") : -1L;
+        long writeSyscalls = processIoAvailable ? ioReader.longField("syscw:") : -1L;
+        long cancelledWriteBytes = processIoAvailable ? ioReader.longField("cancelled_write_bytes:") : -1L;
+
+        IoMetrics metrics = new IoMetrics(
+                processIoAvailable,
+                intervalNanos,
+                readBytes,
+                writeBytes,
+                readChars,
+                writeChars,
+                readSyscalls,
+                writeSyscalls,
+                delta(readBytes, lastReadBytes),
+                delta(writeBytes, lastWriteBytes),
+                delta(readChars, lastReadChars),
+                delta(writeChars, lastWriteChars),
+                delta(readSyscalls, lastReadSyscalls),
+                delta(writeSyscalls, lastWriteSyscalls),
+                delta(cancelledWriteBytes, lastCancelledWriteBytes),
+                JmxUtil.getOpenFileDescriptorCount(osBean),
+                JmxUtil.getMaxFileDescriptorCount(osBean),
+                collectDisks(),
+                drainWorldSaves()
+        );
+
+        lastReadBytes = readBytes;
+        lastWriteBytes = writeBytes;
+        lastReadChars = readChars;
+        lastWriteChars = writeChars;
+        lastReadSyscalls = readSyscalls;
+        lastWriteSyscalls = writeSyscalls;
+        lastCancelledWriteBytes = cancelledWriteBytes;
+        lastMetrics = metrics;
+        return metrics;
+    }
+
+    /**
+     * Returns the last collected metrics for display. Only collects when nothing collected them in the
+     * last 30 seconds, e.g. while no profile is running, so the deltas and save durations stay those of
+     * the profiler.
+     */
+    public synchronized IoMetrics latest() {
+        if (lastMetrics != null && isEnabled() && System.nanoTime() - lastCollectNanos < LATEST_MAX_AGE_NANOS) {
+            return lastMetrics;
+        }
+        return collect();
+    }
+
+    private List<IoMetrics.DiskStats> collectDisks() {
+        Universe universe = Universe.get();
+        if (universe == null) {
+            return List.of();
+        }
+
+        for (DeviceState state : devices.values()) {
+            state.worlds.clear();
+        }
+        for (World world : universe.getWorlds().values()) {
+            Path savePath = world.getSavePath();
+            if (savePath == null) {
+                continue;
+            }
+            String device = devicesBySavePath.computeIfAbsent(savePath.toString(), path -> resolveDevice(savePath));
+            if (device != NO_DEVICE) {
+                devices.computeIfAbsent(device, name -> new DeviceState()).worlds.add(world.getName());
+            }
+        }
+        if (devices.isEmpty() || !diskReader.read(DISKSTATS)) {
+            return List.of();
+        }
+
+        List<IoMetrics.DiskStats> disks = new ArrayList<>(devices.size());
+        long[] values = new long[DISK_COLUMNS];
+        for (Map.Entry<String, DeviceState> entry : devices.entrySet()) {
+            DeviceState state = entry.getValue();
+            if (state.worlds.isEmpty() || !diskReader.columnsAfter(2, entry.getKey(), values)) {
+                continue;
+            }
+            long[] last = state.last;
+            boolean hasBaseline = last[READS] >= 0L;
+            disks.add(new IoMetrics.DiskStats(
+                    entry.getKey(),
+                    List.copyOf(state.worlds),
+                    hasBaseline ? delta(values[READS], last[READS]) : 0L,
+                    hasBaseline ? delta(values[WRITES], last[WRITES]) : 0L,
+                    hasBaseline ? delta(values[SECTORS_READ], last[SECTORS_READ]) * SECTOR_BYTES : 0L,
+                    hasBaseline ? delta(values[SECTORS_WRITTEN], last[SECTORS_WRITTEN]) * SECTOR_BYTES : 0L,
+                    hasBaseline ? delta(values[READ_MILLIS], last[READ_MILLIS]) : 0L,
+                    hasBaseline ? delta(values[WRITE_MILLIS], last[WRITE_MILLIS]) : 0L,
+                    hasBaseline ? delta(values[IO_MILLIS], last[IO_MILLIS]) : 0L,
+                    Math.max(0L, values[IN_FLIGHT])
+            ));
+            System.arraycopy(values, 0, last, 0, DISK_COLUMNS);
+        }
+        disks.sort(Comparator.comparing(IoMetrics.DiskStats::device));
+        return disks;
+    }
+
+    private List<IoMetrics.WorldSaveStats> drainWorldSaves() {
+        if (worldSaves.isEmpty()) {
+            return List.of();
+        }
+        List<IoMetrics.WorldSaveStats> saves = new ArrayList<>(worldSaves.size());
+        for (Map.Entry<String, SaveStats> entry : worldSaves.entrySet()) {
+            SaveStats stats = entry.getValue();
+            long count = stats.count.sumThenReset();
+            long total = stats.totalNanos.sumThenReset();
+            long max = stats.maxNanos.getAndSet(0L);
+            if (count > 0L) {
+                saves.add(new IoMetrics.WorldSaveStats(entry.getKey(), count, total, max));
+            }
+        }
+        saves.sort(Comparator.comparing(IoMetrics.WorldSaveStats::worldName));
+        return saves;
+    }
+
+    private static long delta(long current, long previous) {
+        return current >= 0L && previous >= 0L ? Math.max(0L, current - previous) : 0L;
+    }
+
+    /**
+     * Finds the block device name (as in {@code /proc/diskstats}) of the mount holding {@code savePath},
+     * or {@link #NO_DEVICE} for virtual filesystems and non-Linux systems.
+     */
+    private static String resolveDevice(Path savePath) {
+        try {
+            Path path = savePath.toAbsolutePath().normalize();
+            if (Files.exists(path)) {
+                path = path.toRealPath();
+            }
+
+            // mountinfo: "<id> <parent> <major:minor> <root> <mount point> ...", the longest matching mount wins
+            String deviceNumber = null;
+            int longestMount = -1;
+            for (String line : Files.readAllLines(MOUNTINFO, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(" ");
+                if (fields.length < 5) {
+                    continue;
+                }
+                Path mountPoint = Path.of(unescapeMountPath(fields[4]));
+                if (path.startsWith(mountPoint) && mountPoint.getNameCount() > longestMount) {
+                    longestMount = mountPoint.getNameCount();
+                    deviceNumber = fields[2];
+                }
+            }
+            if (deviceNumber == null) {
+                return NO_DEVICE;
+            }
+
+            // /sys/dev/block/<major:minor> links to the device directory, named like its diskstats entry
+            Path link = Files.readSymbolicLink(SYS_DEV_BLOCK.resolve(deviceNumber));
+            Path name = link.getFileName();
+            return name != null ? name.toString() : NO_DEVICE;
+        } catch (Exception e) {
+            // Overlay and tmpfs mounts have no block device
+            return NO_DEVICE;
+        }
+    }
+
+    /**
+     * Undoes the octal escapes mountinfo uses for spaces, tabs, newlines and backslashes.
+     */
+    private static String unescapeMountPath(String field) {
+        if (field.indexOf('\\') < 0) {
+            return field;
+        }
+        StringBuilder builder = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\' && i + 3 < field.length()) {
+                builder.append((char) Integer.parseInt(field.substring(i + 1, i + 4), 8));
+                i += 3;
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static final class DeviceState {
+        private final long[] last = {-1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L, -1L};
+        private final List<String> worlds = new ArrayList<>();
+    }
+
+    private static final class SaveStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+}
@@ -0,0 +1,81 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import jdk.jfr.EventSettings;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * One JFR {@link RecordingStream} shared by the monitors that count JFR events, so the JVM runs a single
+ * recording and event thread for all of them.
+ *
+ * Monitors subscribe while they are constructed and the plugin starts the stream once they all have.
+ * When JFR is missing from the runtime or disabled by JVM flags, subscriptions are dropped and
+ * {@link #isRunning()} stays false, so monitors report what they can without JFR.
+ */
+public final class JfrEventStream {
+    private static final Duration MAX_AGE = Duration.ofSeconds(10);
+
+    private RecordingStream stream;
+    private boolean unavailable = false;
+    private volatile boolean running = false;
+
+    /**
+     * Enables {@code eventName} without stack traces and delivers its events to {@code handler} on the
+     * stream thread. {@code threshold} overrides the event's default duration threshold when not null.
+     * Must be called before {@link #start()}.
+     */
+    synchronized void subscribe(String eventName, Duration threshold, Consumer<RecordedEvent> handler) {
+        if (unavailable || running) {
+            return;
+        }
+        try {
+            if (stream == null) {
+                stream = new RecordingStream();
+            }
+            EventSettings settings = stream.enable(eventName).withoutStackTrace();
+            if (threshold != null) {
+                settings.withThreshold(threshold);
+            }
+            stream.onEvent(eventName, handler);
+        } catch (Exception e) {
+            // JFR is disabled by JVM flags
+            unavailable = true;
+            close();
+        }
+    }
+
+    /**
+     * Starts delivering events to the subscribed monitors. Does nothing without subscriptions.
+     */
+    public synchronized void start() {
+        if (stream == null || running) {
+            return;
+        }
+        try {
+            stream.setMaxAge(MAX_AGE);
+            stream.startAsync();
+            running = true;
+        } catch (Exception e) {
+            unavailable = true;
+            close();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops the event stream. Should be called when the plugin shuts down.
+     */
+    public synchronized void close() {
+        running = false;
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.JitMetrics;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks JIT compilation time, class loading and code cache usage, which explain warmup stutter and
+ * code-cache-full deoptimization storms that otherwise look like random lag spikes.
+ *
+ * Compilation, deoptimization and code-cache-full events are counted from the shared {@link JfrEventStream}
+ * when the JVM supports event streaming; without JFR only the MXBean data is reported.
+ */
+public final class JitMonitor implements Monitor<JitMetrics> {
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final MonitorConfig config;
+    private final CompilationMXBean compilationBean;
+    private final ClassLoadingMXBean classLoadingBean;
+    private final List<MemoryPoolMXBean> codeCachePools = new ArrayList<>();
+
+    private final LongAdder compilations = new LongAdder();
+    private final LongAdder deoptimizations = new LongAdder();
+    private final LongAdder codeCacheFull = new LongAdder();
+    private final JfrEventStream jfrEvents;
+
+    private long lastSampleNanos;
+    private long lastCompilationMillis;
+    private long lastTotalLoaded;
+    private long lastUnloaded;
+    private long lastCompilations;
+    private long lastDeoptimizations;
+    private long lastCodeCacheFull;
+    private boolean hasBaseline = false;
+    private JitMetrics lastMetrics;
+
+    public JitMonitor(MonitorConfig config, JfrEventStream jfrEvents) {
+        this.config = config;
+        this.jfrEvents = jfrEvents;
+        this.compilationBean = ManagementFactory.getCompilationMXBean();
+        this.classLoadingBean = ManagementFactory.getClassLoadingMXBean();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            // "CodeHeap '...'" segments with a segmented code cache, "Code Cache" otherwise
+            if (pool.getType() == MemoryType.NON_HEAP && pool.getName().startsWith("Code")) {
+                codeCachePools.add(pool);
+            }
+        }
+        if (isEnabled()) {
+            subscribeJfr();
+            collect();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "jit";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.EXPENSIVE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public synchronized JitMetrics collect() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (hasBaseline && now - lastSampleNanos < MIN_INTERVAL_NANOS) {
+            return lastMetrics;
+        }
+
+        long compilationMillis = compilationBean != null && compilationBean.isCompilationTimeMonitoringSupported()
+                ? compilationBean.getTotalCompilationTime()
+                : -1L;
+        long totalLoaded = classLoadingBean.getTotalLoadedClassCount();
+        long unloaded = classLoadingBean.getUnloadedClassCount();
+        long compilationCount = compilations.sum();
+        long deoptimizationCount = deoptimizations.sum();
+        long codeCacheFullCount = codeCacheFull.sum();
+
+        List<JitMetrics.CodeCacheSegment> segments = new ArrayList<>(codeCachePools.size());
+        for (MemoryPoolMXBean pool : codeCachePools) {
+            MemoryUsage usage = pool.getUsage();
+            if (usage != null) {
+                segments.add(new JitMetrics.CodeCacheSegment(
+                        pool.getName(),
+                        usage.getUsed(),
+                        usage.getCommitted(),
+                        usage.getMax()
+                ));
+            }
+        }
+
+        long intervalNanos = hasBaseline ? now - lastSampleNanos : 0L;
+        double seconds = intervalNanos / 1_000_000_000.0;
+        boolean jfrAvailable = jfrEvents.isRunning();
+        lastMetrics = new JitMetrics(
+                intervalNanos,
+                compilationBean != null ? compilationBean.getName() : "none",
+                compilationMillis,
+                hasBaseline && compilationMillis >= 0L ? compilationMillis - lastCompilationMillis : 0L,
+                classLoadingBean.getLoadedClassCount(),
+                totalLoaded,
+                unloaded,
+                intervalNanos > 0L ? (totalLoaded - lastTotalLoaded) / seconds : 0.0,
+                intervalNanos > 0L ? (unloaded - lastUnloaded) / seconds : 0.0,
+                segments,
+                jfrAvailable,
+                jfrAvailable ? compilationCount - lastCompilations : -1L,
+                jfrAvailable ? deoptimizationCount - lastDeoptimizations : -1L,
+                jfrAvailable ? codeCacheFullCount - lastCodeCacheFull : -1L,
+                jfrAvailable ? codeCacheFullCount : -1L
+        );
+
+        lastSampleNanos = now;
+        lastCompilationMillis = compilationMillis;
+        lastTotalLoaded = totalLoaded;
+        lastUnloaded = unloaded;
+        lastCompilations = compilationCount;
+        lastDeoptimizations = deoptimizationCount;
+        lastCodeCacheFull = codeCacheFullCount;
+        hasBaseline = true;
+        return lastMetrics;
+    }
+
+    private void subscribeJfr() {
+        // Every compilation is counted, so drop the default 1s threshold
+        jfrEvents.subscribe("jdk.Compilation", Duration.ZERO, event -> compilations.increment());
+        jfrEvents.subscribe("jdk.Deoptimization", null, event -> deoptimizations.increment());
+        jfrEvents.subscribe("jdk.CodeCacheFull", null, event -> codeCacheFull.increment());
+    }
+}
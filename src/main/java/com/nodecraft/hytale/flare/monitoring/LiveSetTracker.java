@@ -0,0 +1,83 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates heap leak rate from the live set, the heap occupancy measured right after GC.
+ *
+ * Post-GC values still carry a sawtooth from garbage promoted between old collections, so the tracker
+ * keeps the minimum per one-minute bucket over the last six hours and fits a least-squares line through
+ * those minima. A steady positive slope means the floor the GC can reclaim down to keeps rising.
+ */
+final class LiveSetTracker {
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int BUCKET_COUNT = 360;
+    private static final int MIN_POINTS = 5;
+    private static final long MIN_SPAN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+    private static final double MILLIS_PER_HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private final long[] bucketEpochs = new long[BUCKET_COUNT];
+    private final long[] bucketMinBytes = new long[BUCKET_COUNT];
+    private long lastLiveSetBytes = -1L;
+
+    LiveSetTracker() {
+        Arrays.fill(bucketEpochs, Long.MIN_VALUE);
+    }
+
+    synchronized void record(long timeMillis, long liveSetBytes) {
+        if (liveSetBytes < 0L) {
+            return;
+        }
+        lastLiveSetBytes = liveSetBytes;
+        long epoch = Math.floorDiv(timeMillis, BUCKET_MILLIS);
+        int index = (int) Math.floorMod(epoch, (long) BUCKET_COUNT);
+        if (bucketEpochs[index] != epoch) {
+            bucketEpochs[index] = epoch;
+            bucketMinBytes[index] = liveSetBytes;
+        } else {
+            bucketMinBytes[index] = Math.min(bucketMinBytes[index], liveSetBytes);
+        }
+    }
+
+    synchronized Trend trend(long nowMillis) {
+        long nowEpoch = Math.floorDiv(nowMillis, BUCKET_MILLIS);
+        long oldestEpoch = nowEpoch - BUCKET_COUNT + 1;
+
+        // Fit in minutes relative to the window start to keep the sums well conditioned
+        int points = 0;
+        double sumX = 0.0;
+        double sumY = 0.0;
+        double sumXX = 0.0;
+        double sumXY = 0.0;
+        long firstEpoch = Long.MAX_VALUE;
+        long lastEpoch = Long.MIN_VALUE;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long epoch = bucketEpochs[i];
+            if (epoch < oldestEpoch || epoch > nowEpoch) {
+                continue;
+            }
+            double x = epoch - oldestEpoch;
+            double y = bucketMinBytes[i] / BYTES_PER_MB;
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+            points++;
+            firstEpoch = Math.min(firstEpoch, epoch);
+            lastEpoch = Math.max(lastEpoch, epoch);
+        }
+
+        long spanMillis = points > 0 ? (lastEpoch - firstEpoch) * BUCKET_MILLIS : 0L;
+        double slope = Double.NaN;
+        double denominator = points * sumXX - sumX * sumX;
+        if (points >= MIN_POINTS && spanMillis >= MIN_SPAN_MILLIS && denominator > 0.0) {
+            double mbPerBucket = (points * sumXY - sumX * sumY) / denominator;
+            slope = mbPerBucket * (MILLIS_PER_HOUR / BUCKET_MILLIS);
+        }
+        return new Trend(lastLiveSetBytes, slope, points, spanMillis);
+    }
+
+    record Trend(long liveSetBytes, double slopeMbPerHour, int samples, long windowMillis) {}
+}
@@ -0,0 +1,103 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.model.MetricFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A source of metrics that the profiler samples on the monitor's own schedule.
+ *
+ * Built-in monitors fill dedicated fields of the performance snapshot. Any other monitor, including ones
+ * other plugins add through {@link MonitorRegistry}, is written to the report as a generic metric frame
+ * of the values it passes to {@link #describe(Object, MetricSink)}.
+ */
+public interface Monitor<T> {
+    /**
+     * Unique name, used as the frame name in reports.
+     */
+    String getName();
+
+    CostClass getCostClass();
+
+    /**
+     * Collection interval in milliseconds, or 0 to use the default of the cost class. The profiler
+     * collects at most once per snapshot, so shorter intervals act like the snapshot interval.
+     */
+    default long getIntervalMillis() {
+        return 0L;
+    }
+
+    boolean isEnabled();
+
+    /**
+     * Returns the current sample, or null when disabled. The profiler calls this from its own thread;
+     * commands may call it concurrently.
+     */
+    T collect();
+
+    /**
+     * Writes a sample as named values for the report's generic metric frames. Built-in monitors, whose
+     * samples have dedicated report messages, write nothing.
+     */
+    default void describe(T sample, MetricSink sink) {
+    }
+
+    /**
+     * Builds the metric frame of a sample, or returns null if the monitor describes no values.
+     */
+    static <T> MetricFrame toFrame(Monitor<T> monitor, T sample) {
+        if (sample == null) {
+            return null;
+        }
+        List<MetricFrame.Metric> metrics = new ArrayList<>();
+        monitor.describe(sample, (name, value) -> metrics.add(new MetricFrame.Metric(name, value)));
+        return metrics.isEmpty() ? null : new MetricFrame(monitor.getName(), metrics);
+    }
+
+    /**
+     * Wraps a collect function, for monitors that don't need their own class.
+     */
+    static <T> Monitor<T> of(String name, CostClass costClass, BooleanSupplier enabled, Supplier<T> collector) {
+        return new Monitor<>() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public CostClass getCostClass() {
+                return costClass;
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return enabled.getAsBoolean();
+            }
+
+            @Override
+            public T collect() {
+                return collector.get();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface MetricSink {
+        void accept(String name, double value);
+    }
+
+    enum CostClass {
+        /**
+         * Reads counters or pre-aggregated windows; collected every snapshot by default.
+         */
+        CHEAP,
+        /**
+         * Walks threads, pools or worlds, or calls into the server; collected every
+         * {@code SystemMetricsIntervalMs} by default.
+         */
+        EXPENSIVE
+    }
+}
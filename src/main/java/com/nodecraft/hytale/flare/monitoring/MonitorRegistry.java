@@ -0,0 +1,96 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Every monitor the profiler samples. Flare registers its built-in monitors once at setup; they fill the
+ * dedicated snapshot fields and are looked up by type. Monitors added on top of them, by Flare or by
+ * other plugins, are picked up by a running profiling session on its next snapshot and written as
+ * metric frames. Both appear in {@code /flare monitors}.
+ */
+public final class MonitorRegistry {
+    private final List<Monitor<?>> builtIn = new CopyOnWriteArrayList<>();
+    private final List<Monitor<?>> monitors = new CopyOnWriteArrayList<>();
+
+    /**
+     * Adds one of Flare's built-in monitors. Each built-in type may only be registered once.
+     */
+    public synchronized void registerBuiltIn(Monitor<?> monitor) {
+        checkName(monitor);
+        for (Monitor<?> existing : builtIn) {
+            if (existing.getClass() == monitor.getClass()) {
+                throw new IllegalArgumentException("A " + monitor.getClass().getSimpleName() + " is already registered");
+            }
+        }
+        builtIn.add(monitor);
+    }
+
+    /**
+     * Returns the built-in monitor of the given type. Throws if Flare didn't register one.
+     */
+    public <M extends Monitor<?>> M getBuiltIn(Class<M> type) {
+        for (Monitor<?> monitor : builtIn) {
+            if (type.isInstance(monitor)) {
+                return type.cast(monitor);
+            }
+        }
+        throw new IllegalStateException("No built-in " + type.getSimpleName() + " is registered");
+    }
+
+    /**
+     * Returns the built-in monitors in registration order.
+     */
+    public List<Monitor<?>> getBuiltInMonitors() {
+        return Collections.unmodifiableList(builtIn);
+    }
+
+    /**
+     * Adds a monitor. Throws if another monitor, built-in or registered, already uses its name.
+     */
+    public synchronized void register(Monitor<?> monitor) {
+        checkName(monitor);
+        monitors.add(monitor);
+    }
+
+    private void checkName(Monitor<?> monitor) {
+        String name = monitor.getName();
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Monitor name must not be empty");
+        }
+        if (find(name) != null || findBuiltIn(name) != null) {
+            throw new IllegalArgumentException("A monitor named '" + name + "' is already registered");
+        }
+    }
+
+    private Monitor<?> findBuiltIn(String name) {
+        for (Monitor<?> monitor : builtIn) {
+            if (monitor.getName().equals(name)) {
+                return monitor;
+            }
+        }
+        return null;
+    }
+
+    public synchronized boolean unregister(String name) {
+        Monitor<?> monitor = find(name);
+        return monitor != null && monitors.remove(monitor);
+    }
+
+    public Monitor<?> find(String name) {
+        for (Monitor<?> monitor : monitors) {
+            if (monitor.getName().equals(name)) {
+                return monitor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the monitors added on top of the built-in ones.
+     */
+    public List<Monitor<?>> getMonitors() {
+        return Collections.unmodifiableList(monitors);
+    }
+}
@@ -8,7 +8,7 @@ import com.nodecraft.hytale.flare.model.NetworkMetrics;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
-public final class NetworkMonitor {
+public final class NetworkMonitor implements Monitor<NetworkMetrics> {
     private final MonitorConfig config;
     private final AtomicReference<NetworkTotals> baselineTotals = new AtomicReference<>();
     private final AtomicReference<NetworkTotals> profileBaseline = new AtomicReference<>();
@@ -19,6 +19,17 @@ public final class NetworkMonitor {
         resetBaseline();
     }
 
+    @Override
+    public String getName() {
+        return "network";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
     public boolean isEnabled() {
         return config.isEnabled();
     }
@@ -36,6 +47,7 @@ public final class NetworkMonitor {
         profileActive = false;
     }
 
+    @Override
     public NetworkMetrics collect() {
         if (!isEnabled()) {
             return null;
@@ -0,0 +1,163 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.OffHeapMetrics;
+import com.nodecraft.hytale.flare.util.JmxUtil;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tracks memory the heap metrics can't see: NIO direct and mapped buffers, process RSS from
+ * {@code /proc/self/status}, and the Native Memory Tracking summary when NMT is turned on.
+ */
+public final class OffHeapMonitor implements Monitor<OffHeapMetrics> {
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+    private static final Pattern NMT_TOTAL = Pattern.compile("^Total: reserved=(\\d+)KB, committed=(\\d+)KB");
+    private static final Pattern NMT_CATEGORY =
+            Pattern.compile("^-\\s+(.+?) \\(reserved=(\\d+)KB, committed=(\\d+)KB\\)");
+
+    private final MonitorConfig config;
+    private final List<BufferPoolMXBean> bufferPools;
+    private volatile boolean nmtEnabled;
+    private final boolean procAvailable;
+
+    public OffHeapMonitor(MonitorConfig config) {
+        this.config = config;
+        this.bufferPools = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+        this.nmtEnabled = isNmtRequested();
+        this.procAvailable = Files.isReadable(PROC_STATUS);
+    }
+
+    @Override
+    public String getName() {
+        return "offHeap";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.EXPENSIVE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public OffHeapMetrics collect() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        List<OffHeapMetrics.BufferPoolUsage> pools = new ArrayList<>(bufferPools.size());
+        for (BufferPoolMXBean pool : bufferPools) {
+            pools.add(new OffHeapMetrics.BufferPoolUsage(
+                    pool.getName(),
+                    pool.getCount(),
+                    pool.getMemoryUsed(),
+                    pool.getTotalCapacity()
+            ));
+        }
+
+        long[] rss = readRss();
+
+        long nmtReserved = -1L;
+        long nmtCommitted = -1L;
+        List<OffHeapMetrics.NmtCategory> categories = List.of();
+        if (nmtEnabled) {
+            String summary = JmxUtil.invokeDiagnosticCommand("vmNativeMemory", "summary", "scale=KB");
+            if (summary == null || !summary.contains("Total:")) {
+                // NMT is off or the command is unavailable; don't pay for the call again
+                nmtEnabled = false;
+            } else {
+                categories = new ArrayList<>();
+                for (String line : summary.split("\n")) {
+                    String trimmed = line.strip();
+                    Matcher total = NMT_TOTAL.matcher(trimmed);
+                    if (total.find()) {
+                        nmtReserved = Long.parseLong(total.group(1)) * 1024L;
+                        nmtCommitted = Long.parseLong(total.group(2)) * 1024L;
+                        continue;
+                    }
+                    Matcher category = NMT_CATEGORY.matcher(trimmed);
+                    if (category.find()) {
+                        categories.add(new OffHeapMetrics.NmtCategory(
+                                category.group(1).strip(),
+                                Long.parseLong(category.group(2)) * 1024L,
+                                Long.parseLong(category.group(3)) * 1024L
+                        ));
+                    }
+                }
+            }
+        }
+
+        return new OffHeapMetrics(
+                pools,
+                rss[0],
+                rss[1],
+                rss[2],
+                rss[3],
+                nmtReserved >= 0L,
+                nmtReserved,
+                nmtCommitted,
+                categories
+        );
+    }
+
+    /**
+     * Reads VmRSS, VmHWM, RssAnon and RssFile in bytes; missing fields are -1.
+     */
+    private long[] readRss() {
+        long[] values = {-1L, -1L, -1L, -1L};
+        if (!procAvailable) {
+            return values;
+        }
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    values[0] = parseKb(line);
+                } else if (line.startsWith("VmHWM:")) {
+                    values[1] = parseKb(line);
+                } else if (line.startsWith("RssAnon:")) {
+                    values[2] = parseKb(line);
+                } else if (line.startsWith("RssFile:")) {
+                    values[3] = parseKb(line);
+                }
+            }
+        } catch (Exception e) {
+            // Leave the values at -1
+        }
+        return values;
+    }
+
+    private static long parseKb(String line) {
+        // Lines look like "VmRSS:\t  123456 kB"
+        String value = line.substring(line.indexOf(':') + 1).trim();
+        int space = value.indexOf(' ');
+        if (space > 0) {
+            value = value.substring(0, space);
+        }
+        try {
+            return Long.parseLong(value) * 1024L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static boolean isNmtRequested() {
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-XX:NativeMemoryTracking=") && !argument.endsWith("=off")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
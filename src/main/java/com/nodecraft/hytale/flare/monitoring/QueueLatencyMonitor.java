@@ -0,0 +1,173 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.hypixel.hytale.server.core.HytaleServer;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.PercentileSummary;
+import com.nodecraft.hytale.flare.model.QueueLatencyMetrics;
+import com.nodecraft.hytale.flare.util.LogLinearHistogram;
+import com.nodecraft.hytale.flare.util.WindowedHistogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how backed up the world threads and the server scheduler are, which shows overload before
+ * TPS drops.
+ *
+ * A probe runs on {@link HytaleServer#SCHEDULED_EXECUTOR} every {@link #PROBE_INTERVAL_NANOS}; how late it
+ * fires is the scheduler delay. Each run also submits a timestamped no-op to every world's executor and
+ * records the time until it starts. A world has at most one probe outstanding, and the probe task is
+ * allocated once per world, so probing a backed up world neither adds to its queue nor allocates.
+ */
+public final class QueueLatencyMonitor implements Monitor<QueueLatencyMetrics> {
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int SLOT_COUNT = 60;
+    private static final long TEN_SECONDS_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final MonitorConfig config;
+    private final WindowedHistogram schedulerDelay = new WindowedHistogram(SLOT_NANOS, SLOT_COUNT, LogLinearHistogram.forDurations());
+    private final Map<String, WorldProbe> worldProbes = new ConcurrentHashMap<>();
+    private final Runnable probeTask = this::probe;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> nextProbe;
+    private long nextFireNanos;
+    private volatile boolean running = false;
+
+    public QueueLatencyMonitor(MonitorConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public String getName() {
+        return "queueLatency";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Starts probing. The server's scheduled executor must exist, so call this from the plugin's start.
+     */
+    public synchronized void start() {
+        if (!isEnabled() || running || HytaleServer.SCHEDULED_EXECUTOR == null) {
+            return;
+        }
+        executor = HytaleServer.SCHEDULED_EXECUTOR;
+        running = true;
+        scheduleNext();
+    }
+
+    public synchronized void close() {
+        running = false;
+        if (nextProbe != null) {
+            nextProbe.cancel(false);
+            nextProbe = null;
+        }
+    }
+
+    @Override
+    public QueueLatencyMetrics collect() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        List<QueueLatencyMetrics.WorldQueueLatency> worlds = new ArrayList<>(worldProbes.size());
+        for (Map.Entry<String, WorldProbe> entry : worldProbes.entrySet()) {
+            WorldProbe probe = entry.getValue();
+            long pendingSince = probe.pendingSinceNanos;
+            worlds.add(new QueueLatencyMetrics.WorldQueueLatency(
+                    entry.getKey(),
+                    PercentileSummary.from(probe.latency.snapshot(now, TEN_SECONDS_NANOS)),
+                    PercentileSummary.from(probe.latency.snapshot(now, ONE_MINUTE_NANOS)),
+                    pendingSince != 0L ? TimeUnit.NANOSECONDS.toMillis(now - pendingSince) : 0L
+            ));
+        }
+        worlds.sort(Comparator.comparing(QueueLatencyMetrics.WorldQueueLatency::worldName));
+
+        return new QueueLatencyMetrics(
+                PROBE_INTERVAL_NANOS,
+                PercentileSummary.from(schedulerDelay.snapshot(now, TEN_SECONDS_NANOS)),
+                PercentileSummary.from(schedulerDelay.snapshot(now, ONE_MINUTE_NANOS)),
+                worlds
+        );
+    }
+
+    private void probe() {
+        if (!running) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            schedulerDelay.record(now, Math.max(0L, now - nextFireNanos));
+
+            Universe universe = Universe.get();
+            if (universe != null) {
+                Map<String, World> worlds = universe.getWorlds();
+                for (World world : worlds.values()) {
+                    worldProbes.computeIfAbsent(world.getName(), name -> new WorldProbe()).submit(world, now);
+                }
+                worldProbes.keySet().retainAll(worlds.keySet());
+            }
+        } finally {
+            synchronized (this) {
+                if (running) {
+                    scheduleNext();
+                }
+            }
+        }
+    }
+
+    private void scheduleNext() {
+        nextFireNanos = System.nanoTime() + PROBE_INTERVAL_NANOS;
+        nextProbe = executor.schedule(probeTask, PROBE_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Queue latency of one world. The histogram is only written by the world thread.
+     */
+    private static final class WorldProbe implements Runnable {
+        private final WindowedHistogram latency = new WindowedHistogram(SLOT_NANOS, SLOT_COUNT, LogLinearHistogram.forDurations());
+        private volatile long pendingSinceNanos = 0L;
+
+        void submit(World world, long now) {
+            if (pendingSinceNanos != 0L) {
+                return;
+            }
+            pendingSinceNanos = now;
+            try {
+                world.execute(this);
+            } catch (RuntimeException e) {
+                // Executor rejected the probe, e.g. the world is shutting down
+                pendingSinceNanos = 0L;
+            }
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            long submitted = pendingSinceNanos;
+            if (submitted != 0L) {
+                latency.record(start, start - submitted);
+            }
+            pendingSinceNanos = 0L;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.PercentileSummary;
+import com.nodecraft.hytale.flare.model.SafepointMetrics;
+import com.nodecraft.hytale.flare.util.LogLinearHistogram;
+import com.nodecraft.hytale.flare.util.WindowedHistogram;
+import jdk.jfr.consumer.RecordedEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records every safepoint pause from the shared JFR {@link JfrEventStream}, including the non-GC ones the GC
+ * metrics leave out: deoptimization, thread dumps (such as our own thread sampling), class redefinition
+ * and handshakes.
+ *
+ * {@code jdk.SafepointBegin} gives the time to safepoint, {@code jdk.ExecuteVMOperation} names the
+ * operation that ran in it, and {@code jdk.SafepointEnd} closes the pause. The stream delivers events of
+ * one safepoint in that order on a single thread, so the safepoint in progress is tracked in plain fields.
+ */
+public final class SafepointMonitor implements Monitor<SafepointMetrics> {
+    private static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int SLOT_COUNT = 30; // 5 minutes of 10 second slots
+    private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long FIVE_MINUTES_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final String UNKNOWN_OPERATION = "Unknown";
+
+    private final MonitorConfig config;
+    private final WindowedHistogram timeToSafepoint = new WindowedHistogram(SLOT_NANOS, SLOT_COUNT, LogLinearHistogram.forDurations());
+    private final WindowedHistogram pauses = new WindowedHistogram(SLOT_NANOS, SLOT_COUNT, LogLinearHistogram.forDurations());
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final LongAdder safepointCount = new LongAdder();
+    private final LongAdder totalPauseNanos = new LongAdder();
+    private final LongAdder totalTimeToSafepointNanos = new LongAdder();
+    private final JfrEventStream jfrEvents;
+
+    // Safepoint in progress, only touched by the stream thread
+    private long currentSafepointId = -1L;
+    private long currentStartNanos;
+    private long currentTimeToSafepointNanos;
+    private String currentOperation;
+
+    public SafepointMonitor(MonitorConfig config, JfrEventStream jfrEvents) {
+        this.config = config;
+        this.jfrEvents = jfrEvents;
+        if (isEnabled()) {
+            Duration everyEvent = Duration.ZERO;
+            jfrEvents.subscribe("jdk.SafepointBegin", everyEvent, this::onSafepointBegin);
+            jfrEvents.subscribe("jdk.ExecuteVMOperation", everyEvent, this::onVmOperation);
+            jfrEvents.subscribe("jdk.SafepointEnd", everyEvent, this::onSafepointEnd);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "safepoints";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public SafepointMetrics collect() {
+        if (!isEnabled()) {
+            return null;
+        }
+        if (!jfrEvents.isRunning()) {
+            return SafepointMetrics.unavailable();
+        }
+
+        long now = System.nanoTime();
+        List<SafepointMetrics.VmOperationStats> operationStats = new ArrayList<>(operations.size());
+        for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+            OperationStats stats = entry.getValue();
+            operationStats.add(new SafepointMetrics.VmOperationStats(
+                    entry.getKey(),
+                    stats.count.sum(),
+                    stats.totalPauseNanos.sum(),
+                    stats.totalTimeToSafepointNanos.sum(),
+                    stats.maxPauseNanos.get(),
+                    PercentileSummary.from(stats.pauses)
+            ));
+        }
+        operationStats.sort((a, b) -> Long.compare(b.totalPauseNanos(), a.totalPauseNanos()));
+
+        return new SafepointMetrics(
+                true,
+                safepointCount.sum(),
+                totalPauseNanos.sum(),
+                totalTimeToSafepointNanos.sum(),
+                PercentileSummary.from(timeToSafepoint.snapshot(now, ONE_MINUTE_NANOS)),
+                PercentileSummary.from(timeToSafepoint.snapshot(now, FIVE_MINUTES_NANOS)),
+                PercentileSummary.from(pauses.snapshot(now, ONE_MINUTE_NANOS)),
+                PercentileSummary.from(pauses.snapshot(now, FIVE_MINUTES_NANOS)),
+                operationStats
+        );
+    }
+
+    private void onSafepointBegin(RecordedEvent event) {
+        currentSafepointId = event.getLong("safepointId");
+        currentStartNanos = toNanos(event.getStartTime());
+        currentTimeToSafepointNanos = event.getDuration().toNanos();
+        currentOperation = null;
+    }
+
+    private void onVmOperation(RecordedEvent event) {
+        if (!event.getBoolean("safepoint") || event.getLong("safepointId") != currentSafepointId) {
+            return;
+        }
+        // Several operations can share one safepoint; the pause is attributed to the first
+        if (currentOperation == null) {
+            currentOperation = event.getString("operation");
+        }
+    }
+
+    private void onSafepointEnd(RecordedEvent event) {
+        if (event.getLong("safepointId") != currentSafepointId) {
+            // Begin event was lost (stream started mid-safepoint)
+            return;
+        }
+        long pauseNanos = Math.max(0L, toNanos(event.getEndTime()) - currentStartNanos);
+        long ttspNanos = currentTimeToSafepointNanos;
+        long now = System.nanoTime();
+
+        safepointCount.increment();
+        totalPauseNanos.add(pauseNanos);
+        totalTimeToSafepointNanos.add(ttspNanos);
+        timeToSafepoint.record(now, ttspNanos);
+        pauses.record(now, pauseNanos);
+
+        String operation = currentOperation != null ? currentOperation : UNKNOWN_OPERATION;
+        OperationStats stats = operations.computeIfAbsent(operation, name -> new OperationStats());
+        stats.count.increment();
+        stats.totalPauseNanos.add(pauseNanos);
+        stats.totalTimeToSafepointNanos.add(ttspNanos);
+        stats.maxPauseNanos.accumulateAndGet(pauseNanos, Math::max);
+        stats.pauses.record(pauseNanos);
+
+        currentSafepointId = -1L;
+        currentOperation = null;
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static final class OperationStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalPauseNanos = new LongAdder();
+        private final LongAdder totalTimeToSafepointNanos = new LongAdder();
+        private final AtomicLong maxPauseNanos = new AtomicLong();
+        private final LogLinearHistogram pauses = LogLinearHistogram.forDurations();
+    }
+}
@@ -0,0 +1,54 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.config.SystemTimingConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry point for per-system tick instrumentation.
+ *
+ * The server does not time its ECS systems itself, so whatever drives them (a tick hook, a wrapping
+ * system, an agent) registers each system once per world and brackets every run with
+ * {@link WorldSystemTimings#start()} / {@link WorldSystemTimings#stop(int, long)}. When disabled,
+ * {@link #forWorld(String)} hands out a shared instance whose {@code start()} returns 0 without reading
+ * the clock and whose {@code stop} returns on that 0, so hooks can stay in place at near-zero cost.
+ */
+public final class SystemTimings {
+    private final SystemTimingConfig config;
+    private final WorldSystemTimings disabled;
+    private final Map<String, WorldSystemTimings> worlds = new ConcurrentHashMap<>();
+
+    public SystemTimings(SystemTimingConfig config) {
+        this.config = config;
+        this.disabled = new WorldSystemTimings(false, 0);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Returns the timings of a world. Look this up once when the world's systems are set up, not per tick;
+     * the instance stays valid for the lifetime of the plugin.
+     */
+    public WorldSystemTimings forWorld(String worldName) {
+        if (!isEnabled()) {
+            return disabled;
+        }
+        return worlds.computeIfAbsent(worldName,
+                name -> new WorldSystemTimings(true, config.getMaxSystemsPerWorld()));
+    }
+
+    /**
+     * Returns the world's timings if instrumentation registered any systems for it, otherwise null.
+     */
+    WorldSystemTimings find(String worldName) {
+        WorldSystemTimings timings = worlds.get(worldName);
+        return timings != null && timings.registeredCount() > 0 ? timings : null;
+    }
+
+    int getTopSystems() {
+        return config.getTopSystems();
+    }
+}
@@ -0,0 +1,193 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.model.ThreadCpuUsage;
+import com.nodecraft.hytale.flare.util.LongLongHashMap;
+
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes per-thread CPU time deltas between samples and keeps the threads that used the most.
+ *
+ * The thread ID array is only re-read when threads have started or exited, per-thread times are read
+ * in one batched call where the JVM supports it, and previous times live in primitive maps that are
+ * reused between samples. Every sample moves the baselines, so commands read
+ * {@link ThreadMonitor#latest()} rather than sampling between the profiler's passes.
+ */
+final class ThreadCpuSampler {
+    static final int MAX_TOP_THREADS = 10;
+
+    private final ThreadMXBean threadBean;
+    private final com.sun.management.ThreadMXBean extendedBean;
+    private final boolean supported;
+
+    private final ThreadIdCache threadIds;
+
+    private LongLongHashMap previousCpu = new LongLongHashMap();
+    private LongLongHashMap currentCpu = new LongLongHashMap();
+    private LongLongHashMap previousUser = new LongLongHashMap();
+    private LongLongHashMap currentUser = new LongLongHashMap();
+    private long lastSampleNanos = 0L;
+    private boolean hasBaseline = false;
+
+    private final long[] topIds = new long[MAX_TOP_THREADS];
+    private final long[] topCpu = new long[MAX_TOP_THREADS];
+    private final long[] topUser = new long[MAX_TOP_THREADS];
+    private final long[] topTotal = new long[MAX_TOP_THREADS];
+    private Sample lastSample = Sample.EMPTY;
+
+    ThreadCpuSampler(ThreadMXBean threadBean) {
+        this.threadBean = threadBean;
+        this.extendedBean = threadBean instanceof com.sun.management.ThreadMXBean extended ? extended : null;
+        this.supported = threadBean.isThreadCpuTimeSupported() && threadBean.isThreadCpuTimeEnabled();
+        this.threadIds = new ThreadIdCache(threadBean);
+    }
+
+    boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Samples every live thread and returns the busiest threads since the previous sample.
+     * The first call only records a baseline and returns {@link Sample#EMPTY}.
+     */
+    synchronized Sample sample() {
+        if (!supported) {
+            return Sample.EMPTY;
+        }
+
+        long now = System.nanoTime();
+        long[] ids = threadIds.get();
+        long[] cpuTimes = readCpuTimes(ids);
+        long[] userTimes = readUserTimes(ids);
+
+        int topCount = 0;
+        long totalDelta = 0L;
+        currentCpu.clear();
+        currentUser.clear();
+        for (int i = 0; i < ids.length; i++) {
+            long cpu = cpuTimes[i];
+            if (cpu < 0L) {
+                // Thread exited since the ID array was read
+                continue;
+            }
+            long user = Math.max(0L, userTimes[i]);
+            currentCpu.put(ids[i], cpu);
+            currentUser.put(ids[i], user);
+            if (!hasBaseline) {
+                continue;
+            }
+
+            // Threads missing from the previous sample started during this interval
+            long cpuDelta = Math.max(0L, cpu - previousCpu.get(ids[i], 0L));
+            long userDelta = Math.max(0L, user - previousUser.get(ids[i], 0L));
+            totalDelta += cpuDelta;
+            topCount = offerTop(topCount, ids[i], cpuDelta, userDelta, cpu);
+        }
+
+        LongLongHashMap swap = previousCpu;
+        previousCpu = currentCpu;
+        currentCpu = swap;
+        swap = previousUser;
+        previousUser = currentUser;
+        currentUser = swap;
+
+        long intervalNanos = now - lastSampleNanos;
+        boolean hadBaseline = hasBaseline;
+        lastSampleNanos = now;
+        hasBaseline = true;
+        if (!hadBaseline || intervalNanos <= 0L) {
+            lastSample = Sample.EMPTY;
+            return lastSample;
+        }
+
+        lastSample = new Sample(
+                buildTop(topCount, intervalNanos),
+                intervalNanos,
+                totalDelta / (double) intervalNanos
+        );
+        return lastSample;
+    }
+
+    private long[] readCpuTimes(long[] ids) {
+        if (extendedBean != null) {
+            return extendedBean.getThreadCpuTime(ids);
+        }
+        long[] times = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            times[i] = threadBean.getThreadCpuTime(ids[i]);
+        }
+        return times;
+    }
+
+    private long[] readUserTimes(long[] ids) {
+        if (extendedBean != null) {
+            return extendedBean.getThreadUserTime(ids);
+        }
+        long[] times = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            times[i] = threadBean.getThreadUserTime(ids[i]);
+        }
+        return times;
+    }
+
+    /**
+     * Inserts a thread into the top arrays, which are kept sorted by CPU delta, busiest first.
+     */
+    private int offerTop(int count, long id, long cpuDelta, long userDelta, long totalCpu) {
+        if (cpuDelta <= 0L || (count == MAX_TOP_THREADS && cpuDelta <= topCpu[count - 1])) {
+            return count;
+        }
+        int position = Math.min(count, MAX_TOP_THREADS - 1);
+        while (position > 0 && topCpu[position - 1] < cpuDelta) {
+            topIds[position] = topIds[position - 1];
+            topCpu[position] = topCpu[position - 1];
+            topUser[position] = topUser[position - 1];
+            topTotal[position] = topTotal[position - 1];
+            position--;
+        }
+        topIds[position] = id;
+        topCpu[position] = cpuDelta;
+        topUser[position] = userDelta;
+        topTotal[position] = totalCpu;
+        return Math.min(count + 1, MAX_TOP_THREADS);
+    }
+
+    private List<ThreadCpuUsage> buildTop(int count, long intervalNanos) {
+        if (count == 0) {
+            return List.of();
+        }
+        long[] ids = new long[count];
+        System.arraycopy(topIds, 0, ids, 0, count);
+        // Names and states only for the handful of threads we report
+        ThreadInfo[] infos = threadBean.getThreadInfo(ids, 0);
+
+        List<ThreadCpuUsage> top = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ThreadInfo info = infos != null ? infos[i] : null;
+            top.add(new ThreadCpuUsage(
+                    ids[i],
+                    info != null ? info.getThreadName() : "<exited>",
+                    info != null ? info.getThreadState() : Thread.State.TERMINATED,
+                    topCpu[i],
+                    topUser[i],
+                    topTotal[i],
+                    topCpu[i] / (double) intervalNanos
+            ));
+        }
+        return List.copyOf(top);
+    }
+
+    /**
+     * Busiest threads over {@code intervalNanos}; {@code totalCpuUsage} sums every thread, 1.0 = one core.
+     */
+    record Sample(
+            List<ThreadCpuUsage> topThreads,
+            long intervalNanos,
+            double totalCpuUsage
+    ) {
+        static final Sample EMPTY = new Sample(List.of(), 0L, 0.0);
+    }
+}
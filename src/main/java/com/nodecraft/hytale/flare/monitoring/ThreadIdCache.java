@@ -0,0 +1,33 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Caches {@link ThreadMXBean#getAllThreadIds()} and re-reads it only when a thread started or exited,
+ * which the bean reports through two cheap counters. Not thread-safe; owners synchronize.
+ */
+final class ThreadIdCache {
+    private final ThreadMXBean threadBean;
+    private long[] threadIds = new long[0];
+    private long lastStartedThreadCount = -1L;
+    private int lastThreadCount = -1;
+
+    ThreadIdCache(ThreadMXBean threadBean) {
+        this.threadBean = threadBean;
+    }
+
+    /**
+     * Returns the live thread IDs. The array is shared; callers must not modify it.
+     */
+    long[] get() {
+        long started = threadBean.getTotalStartedThreadCount();
+        int count = threadBean.getThreadCount();
+        if (started != lastStartedThreadCount || count != lastThreadCount) {
+            long[] ids = threadBean.getAllThreadIds();
+            threadIds = ids != null ? ids : new long[0];
+            lastStartedThreadCount = started;
+            lastThreadCount = count;
+        }
+        return threadIds;
+    }
+}
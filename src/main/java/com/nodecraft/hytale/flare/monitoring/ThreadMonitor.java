@@ -6,25 +6,55 @@ import com.nodecraft.hytale.flare.model.ThreadMetrics;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-public final class ThreadMonitor {
+public final class ThreadMonitor implements Monitor<ThreadMetrics> {
+    private static final long LATEST_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
     private final MonitorConfig config;
     private final ThreadMXBean threadBean;
+    private final ThreadCpuSampler cpuSampler;
+    private final ThreadStateSampler stateSampler;
+    private ThreadMetrics lastMetrics = null;
+    private long lastCollectNanos = 0L;
 
     public ThreadMonitor(MonitorConfig config) {
         this.config = config;
         this.threadBean = ManagementFactory.getThreadMXBean();
+        this.cpuSampler = new ThreadCpuSampler(threadBean);
+        this.stateSampler = new ThreadStateSampler(threadBean);
+        if (isEnabled()) {
+            // Baseline so the first collect already has CPU deltas
+            cpuSampler.sample();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "threads";
     }
 
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.EXPENSIVE;
+    }
+
+    @Override
     public boolean isEnabled() {
         return config.isEnabled();
     }
 
-    public ThreadMetrics collect() {
+    /**
+     * Returns false if the JVM cannot measure per-thread CPU time; top threads will then always be empty.
+     */
+    public boolean isThreadCpuTimeSupported() {
+        return cpuSampler.isSupported();
+    }
+
+    @Override
+    public synchronized ThreadMetrics collect() {
         if (!isEnabled()) {
             return null;
         }
@@ -35,36 +65,9 @@ public final class ThreadMonitor {
         long totalStartedThreads = threadBean.getTotalStartedThreadCount();
         int daemonThreads = threadBean.getDaemonThreadCount();
 
-        // For passive profiling, we avoid expensive getThreadInfo() calls that may suspend threads
-        // Instead, we use a lightweight approach: get thread info without stack traces
-        // This is much faster and doesn't require thread suspension
-        Map<Thread.State, Integer> threadsByState = new HashMap<>();
-        for (Thread.State state : Thread.State.values()) {
-            threadsByState.put(state, 0);
-        }
-
-        // For passive profiling, we can skip detailed thread state counting if there are many threads
-        // This is the most expensive operation in thread monitoring
-        long[] allThreadIds = threadBean.getAllThreadIds();
-        if (allThreadIds != null && allThreadIds.length > 0) {
-            // Only collect thread states if thread count is reasonable (< 200 threads)
-            // For high thread counts, this operation becomes too expensive
-            if (allThreadIds.length < 200) {
-                // Batch get thread info without stack traces for better performance
-                java.lang.management.ThreadInfo[] threadInfos = threadBean.getThreadInfo(allThreadIds, 0);
-                if (threadInfos != null) {
-                    for (java.lang.management.ThreadInfo threadInfo : threadInfos) {
-                        if (threadInfo != null) {
-                            Thread.State state = threadInfo.getThreadState();
-                            threadsByState.put(state, threadsByState.get(state) + 1);
-                        }
-                    }
-                }
-            } else {
-                // Too many threads - skip state counting to avoid overhead
-                // Just initialize with zeros (already done above)
-            }
-        }
+        // getThreadInfo() without stack traces doesn't suspend threads; above a few hundred threads
+        // the sampler reads a rotating random batch instead of every thread
+        ThreadStateSampler.Result states = stateSampler.sample(totalThreads);
 
         // Check for deadlocks - this is already lightweight and non-blocking
         long[] deadlockedThreads = threadBean.findDeadlockedThreads();
@@ -72,13 +75,33 @@ public final class ThreadMonitor {
                 ? Arrays.stream(deadlockedThreads).boxed().collect(Collectors.toList())
                 : List.of();
 
-        return new ThreadMetrics(
+        ThreadCpuSampler.Sample cpuSample = cpuSampler.sample();
+
+        lastCollectNanos = System.nanoTime();
+        lastMetrics = new ThreadMetrics(
                 totalThreads,
                 peakThreads,
                 totalStartedThreads,
                 daemonThreads,
-                threadsByState,
-                deadlockedThreadList
+                states.threadsByState(),
+                states.sampled(),
+                states.sampleSize(),
+                deadlockedThreadList,
+                cpuSample.topThreads(),
+                cpuSample.intervalNanos(),
+                cpuSample.totalCpuUsage()
         );
+        return lastMetrics;
+    }
+
+    /**
+     * Returns the last collected metrics for display. Only collects when nothing collected them in the
+     * last 30 seconds, e.g. while no profile is running, so the CPU deltas stay those of the profiler.
+     */
+    public synchronized ThreadMetrics latest() {
+        if (lastMetrics != null && isEnabled() && System.nanoTime() - lastCollectNanos < LATEST_MAX_AGE_NANOS) {
+            return lastMetrics;
+        }
+        return collect();
     }
 }
@@ -0,0 +1,140 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counts threads by state with a hard cap on {@code getThreadInfo} work per collection.
+ *
+ * Up to {@link #FULL_SCAN_LIMIT} threads every thread is read and the counts are exact. Above that,
+ * each collection reads the next {@link #BATCH_SIZE} IDs of a shuffled copy of the thread ID array,
+ * rotating through it and reshuffling (which also picks up new threads) once per pass. Each batch is a
+ * simple random sample of the live threads, so scaling its state fractions up to the live thread count
+ * gives an unbiased estimate.
+ */
+final class ThreadStateSampler {
+    static final int FULL_SCAN_LIMIT = 200;
+    static final int BATCH_SIZE = 128;
+
+    private final ThreadMXBean threadBean;
+    private long[] shuffledIds = new long[0];
+    private int cursor = 0;
+
+    ThreadStateSampler(ThreadMXBean threadBean) {
+        this.threadBean = threadBean;
+    }
+
+    synchronized Result sample(int liveThreads) {
+        if (liveThreads <= FULL_SCAN_LIMIT) {
+            long[] ids = threadBean.getAllThreadIds();
+            if (ids == null || ids.length == 0) {
+                return new Result(emptyCounts(), false, 0);
+            }
+            Map<Thread.State, Integer> counts = emptyCounts();
+            int read = countStates(threadBean.getThreadInfo(ids, 0), counts);
+            return new Result(counts, false, read);
+        }
+
+        long[] batch = nextBatch();
+        Map<Thread.State, Integer> sampled = emptyCounts();
+        int read = countStates(threadBean.getThreadInfo(batch, 0), sampled);
+        if (read == 0) {
+            return new Result(emptyCounts(), true, 0);
+        }
+        return new Result(scale(sampled, read, liveThreads), true, read);
+    }
+
+    private long[] nextBatch() {
+        // Reshuffle rather than read a short tail, so every estimate uses a full batch
+        if (shuffledIds.length - cursor < BATCH_SIZE) {
+            long[] ids = threadBean.getAllThreadIds();
+            shuffledIds = ids != null ? ids : new long[0];
+            shuffle(shuffledIds);
+            cursor = 0;
+        }
+        int size = Math.min(BATCH_SIZE, shuffledIds.length - cursor);
+        long[] batch = new long[size];
+        System.arraycopy(shuffledIds, cursor, batch, 0, size);
+        cursor += size;
+        return batch;
+    }
+
+    private static int countStates(ThreadInfo[] infos, Map<Thread.State, Integer> counts) {
+        if (infos == null) {
+            return 0;
+        }
+        int read = 0;
+        for (ThreadInfo info : infos) {
+            // Null means the thread exited since its ID was read
+            if (info != null) {
+                counts.merge(info.getThreadState(), 1, Integer::sum);
+                read++;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Scales sampled counts to {@code total} threads, distributing rounding by largest remainder
+     * so the estimates add up to the live thread count.
+     */
+    private static Map<Thread.State, Integer> scale(Map<Thread.State, Integer> sampled, int sampleSize, int total) {
+        Thread.State[] states = Thread.State.values();
+        double[] remainders = new double[states.length];
+        Map<Thread.State, Integer> scaled = emptyCounts();
+        int assigned = 0;
+        for (int i = 0; i < states.length; i++) {
+            double exact = sampled.get(states[i]) * (double) total / sampleSize;
+            int floor = (int) exact;
+            scaled.put(states[i], floor);
+            remainders[i] = exact - floor;
+            assigned += floor;
+        }
+        while (assigned < total) {
+            int best = 0;
+            for (int i = 1; i < states.length; i++) {
+                if (remainders[i] > remainders[best]) {
+                    best = i;
+                }
+            }
+            if (remainders[best] <= 0.0) {
+                break;
+            }
+            scaled.merge(states[best], 1, Integer::sum);
+            remainders[best] = 0.0;
+            assigned++;
+        }
+        return scaled;
+    }
+
+    private static void shuffle(long[] ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+    }
+
+    private static Map<Thread.State, Integer> emptyCounts() {
+        Map<Thread.State, Integer> counts = new EnumMap<>(Thread.State.class);
+        for (Thread.State state : Thread.State.values()) {
+            counts.put(state, 0);
+        }
+        return counts;
+    }
+
+    /**
+     * Thread counts by state. When {@code sampled} is true they are estimates from {@code sampleSize}
+     * threads scaled to the live thread count.
+     */
+    record Result(
+            Map<Thread.State, Integer> threadsByState,
+            boolean sampled,
+            int sampleSize
+    ) {}
+}
@@ -0,0 +1,193 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.hypixel.hytale.metrics.metric.HistoricMetric;
+import com.nodecraft.hytale.flare.model.PercentileSummary;
+import com.nodecraft.hytale.flare.model.WindowStats;
+import com.nodecraft.hytale.flare.model.WorldTpsMetrics;
+import com.nodecraft.hytale.flare.util.LogLinearHistogram;
+import com.nodecraft.hytale.flare.util.SlidingWindowStats;
+import com.nodecraft.hytale.flare.util.TickSampleRing;
+import com.nodecraft.hytale.flare.util.WindowedHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures every tick of a single world into a primitive {@link TickSampleRing} and keeps tick-length
+ * histograms for the 1s/10s/1m/5m windows.
+ *
+ * Tick lengths are pulled from the world's {@link HistoricMetric} buffer, or pushed by a tick hook
+ * through {@link #record(long, long)}; only samples newer than the last written timestamp are kept, so
+ * polling the same buffer repeatedly never double-counts. The first hooked tick waits for an in-flight
+ * poll and stops polling for the world, so the ring always has a single writer. Hooked timestamps must
+ * be {@link System#nanoTime()}, the clock of the metric buffer, so the two sources line up at the switch.
+ *
+ * The write path only touches the ring. The histograms are fed on the reader side, under this
+ * tracker's lock, by draining the ring since the last read.
+ */
+final class TickDurationTracker implements WorldTickCapture.TickRecorder {
+    private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long TEN_SECONDS_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long FIVE_MINUTES_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SAMPLE_CAPACITY = 16384; // ~9 minutes at 30 TPS
+
+    // Fine slots answer the 1s/10s windows, coarse slots the 1m/5m windows
+    private final WindowedHistogram fine = new WindowedHistogram(TimeUnit.MILLISECONDS.toNanos(250), 40, LogLinearHistogram.forDurations());
+    private final WindowedHistogram coarse = new WindowedHistogram(TEN_SECONDS_NANOS, 30, LogLinearHistogram.forDurations());
+    private final TickSampleRing samples = new TickSampleRing(SAMPLE_CAPACITY);
+    private final SlidingWindowStats tpsStats = new SlidingWindowStats(TEN_SECONDS_NANOS, 30);
+    private final Object ingestLock = new Object();
+    private volatile boolean hooked;
+    // Owned by the writer
+    private long lastIngestedTimestamp = Long.MIN_VALUE;
+    // Owned by readers, guarded by this
+    private long readCursor = 0L;
+    private long lastReadTimestamp = Long.MIN_VALUE;
+    private long tickStepNanos = 0L;
+    private double avgTickNanos = 0.0;
+    private double currentTps = Double.NaN;
+
+    /**
+     * Records every tick in {@code metrics} that has not been seen yet. Does nothing once a hook records ticks.
+     */
+    void ingest(HistoricMetric metrics) {
+        synchronized (ingestLock) {
+            if (!hooked) {
+                ingestLocked(metrics);
+            }
+        }
+    }
+
+    private void ingestLocked(HistoricMetric metrics) {
+        long[] timestamps = metrics.getAllTimestamps();
+        long[] values = metrics.getAllValues();
+        int length = Math.min(timestamps.length, values.length);
+        if (length == 0) {
+            return;
+        }
+
+        int first = length;
+        while (first > 0 && timestamps[first - 1] > lastIngestedTimestamp) {
+            first--;
+        }
+        for (int i = first; i < length; i++) {
+            write(timestamps[i], values[i]);
+        }
+    }
+
+    /**
+     * Records a single tick from the world thread. Apart from the first call, which takes over from
+     * polling, lock- and allocation-free: it only writes to the ring.
+     */
+    @Override
+    public void record(long timestampNanos, long durationNanos) {
+        if (!hooked) {
+            synchronized (ingestLock) {
+                // Lets a poll that already checked the flag finish before this thread writes
+                hooked = true;
+            }
+        }
+        write(timestampNanos, durationNanos);
+    }
+
+    private void write(long timestampNanos, long durationNanos) {
+        if (timestampNanos <= lastIngestedTimestamp) {
+            return;
+        }
+        samples.record(timestampNanos, durationNanos);
+        lastIngestedTimestamp = timestampNanos;
+    }
+
+    /**
+     * Moves the ticks written since the last read into the histograms.
+     */
+    private void drainSamples() {
+        TickSampleRing.Samples fresh = samples.since(readCursor);
+        readCursor = fresh.nextSequence();
+        long[] timestamps = fresh.timestamps();
+        long[] durations = fresh.durations();
+        for (int i = 0; i < timestamps.length; i++) {
+            fine.record(timestamps[i], durations[i]);
+            coarse.record(timestamps[i], durations[i]);
+        }
+        if (timestamps.length > 0) {
+            lastReadTimestamp = timestamps[timestamps.length - 1];
+        }
+    }
+
+    /**
+     * Updates the world's TPS from its 10s average tick length.
+     */
+    synchronized void updateTps(long tickStepNanos, double avgTickNanos) {
+        if (avgTickNanos <= 0.0) {
+            return;
+        }
+        double tps = 1_000_000_000.0 / Math.max(avgTickNanos, tickStepNanos);
+        this.tickStepNanos = tickStepNanos;
+        this.avgTickNanos = avgTickNanos;
+        currentTps = tps;
+        tpsStats.record(tps);
+    }
+
+    /**
+     * Returns the world's TPS and tick statistics, or null if no valid tick length was seen yet.
+     */
+    synchronized WorldTpsMetrics toMetrics(String worldName) {
+        if (Double.isNaN(currentTps)) {
+            return null;
+        }
+        Windows windows = summarize();
+        WindowStats tps5m = tpsStats.snapshot(FIVE_MINUTES_NANOS);
+        if (tps5m.isEmpty()) {
+            tps5m = new WindowStats(1, currentTps, currentTps, currentTps);
+        }
+        return new WorldTpsMetrics(
+                worldName,
+                currentTps,
+                tps5m.average(),
+                tps5m.min(),
+                tps5m.max(),
+                avgTickNanos,
+                tickStepNanos,
+                windows.window1s(),
+                windows.window10s(),
+                windows.window1m(),
+                windows.window5m()
+        );
+    }
+
+    TickSampleRing samples() {
+        return samples;
+    }
+
+    /**
+     * Summarizes the windows ending at the newest ingested tick.
+     */
+    synchronized Windows summarize() {
+        drainSamples();
+        if (lastReadTimestamp == Long.MIN_VALUE) {
+            return Windows.EMPTY;
+        }
+        long now = lastReadTimestamp;
+        return new Windows(
+                PercentileSummary.from(fine.snapshot(now, ONE_SECOND_NANOS)),
+                PercentileSummary.from(fine.snapshot(now, TEN_SECONDS_NANOS)),
+                PercentileSummary.from(coarse.snapshot(now, ONE_MINUTE_NANOS)),
+                PercentileSummary.from(coarse.snapshot(now, FIVE_MINUTES_NANOS))
+        );
+    }
+
+    record Windows(
+            PercentileSummary window1s,
+            PercentileSummary window10s,
+            PercentileSummary window1m,
+            PercentileSummary window5m
+    ) {
+        static final Windows EMPTY = new Windows(
+                PercentileSummary.EMPTY,
+                PercentileSummary.EMPTY,
+                PercentileSummary.EMPTY,
+                PercentileSummary.EMPTY
+        );
+    }
+}
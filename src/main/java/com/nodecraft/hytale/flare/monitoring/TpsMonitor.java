@@ -6,70 +6,145 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.metrics.metric.HistoricMetric;
 import com.nodecraft.hytale.flare.config.MonitorConfig;
 import com.nodecraft.hytale.flare.model.TpsMetrics;
+import com.nodecraft.hytale.flare.model.WindowStats;
+import com.nodecraft.hytale.flare.model.WorldTpsMetrics;
+import com.nodecraft.hytale.flare.util.SlidingWindowStats;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports server TPS from the default world. Called from both the profiler thread and command
+ * threads, so TPS history lives in a shared {@link SlidingWindowStats} rather than per-caller state.
+ *
+ * {@link #collect()} also captures every world's ticks and summarizes their windows, so it belongs on
+ * the snapshot interval; sub-second sampling reads {@link #sampleCurrentTps()} instead.
+ */
+public final class TpsMonitor implements Monitor<TpsMetrics> {
+    private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long FIVE_MINUTES_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final long FIFTEEN_MINUTES_NANOS = TimeUnit.MINUTES.toNanos(15);
 
-public final class TpsMonitor {
     private final MonitorConfig config;
-    private double lastTps = Double.NaN;
-    private double minTps = Double.NaN;
-    private double maxTps = Double.NaN;
-    private double sumTps = 0.0;
-    private int tpsSamples = 0;
-    private double lastAvgTickNanos = 0.0;
-    private double lastTickAvg1sNanos = 0.0;
-    private double lastTickAvg10sNanos = 0.0;
-    private double lastTickAvg1mNanos = 0.0;
-    private double lastTickAvg5mNanos = 0.0;
-    private long lastTickStepNanos = 0L;
+    // 15 minutes of 5 second buckets
+    private final SlidingWindowStats tpsStats = new SlidingWindowStats(TimeUnit.SECONDS.toNanos(5), 180);
+    private volatile double lastTps = Double.NaN;
+    private volatile double lastAvgTickNanos = 0.0;
+    private volatile double lastTickAvg1sNanos = 0.0;
+    private volatile double lastTickAvg10sNanos = 0.0;
+    private volatile double lastTickAvg1mNanos = 0.0;
+    private volatile double lastTickAvg5mNanos = 0.0;
+    private volatile long lastTickStepNanos = 0L;
+    private volatile TickDurationTracker.Windows lastTickWindows = TickDurationTracker.Windows.EMPTY;
+    private final WorldTickCapture tickCapture;
     private HytaleLogger logger;
 
-    public TpsMonitor(MonitorConfig config, HytaleLogger logger) {
+    public TpsMonitor(MonitorConfig config, WorldTickCapture tickCapture, HytaleLogger logger) {
         this.config = config;
+        this.tickCapture = tickCapture;
         this.logger = logger;
     }
 
+    @Override
+    public String getName() {
+        return "tps";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.CHEAP;
+    }
+
+    @Override
     public boolean isEnabled() {
         return config.isEnabled();
     }
 
+    @Override
     public TpsMetrics collect() {
         if (!isEnabled()) {
             return null;
         }
 
-        Map<String, World> worlds = Universe.get().getWorlds();
-        if (worlds.isEmpty()) {
+        if (Universe.get().getWorlds().isEmpty()) {
             logger.atWarning().log("No worlds found. TPS will be set to 20.0");
-            return new TpsMetrics(20.0, 20.0, 20.0, 20.0);
-        }
-
-        // Get TPS from default world or first available world
-        World defaultWorld = Universe.get().getDefaultWorld();
-        if (defaultWorld == null && !worlds.isEmpty()) {
-            defaultWorld = worlds.values().iterator().next();
+            return TpsMetrics.constant(20.0);
         }
 
+        World defaultWorld = findDefaultWorld();
         if (defaultWorld == null) {
             logger.atWarning().log("No default world found. TPS will be set to 20.0");
-            return new TpsMetrics(20.0, 20.0, 20.0, 20.0);
+            return TpsMetrics.constant(20.0);
         }
 
+        tickCapture.captureAll();
         double currentTps = getTPS(defaultWorld);
         lastTps = currentTps;
-        if (tpsSamples == 0) {
-            minTps = currentTps;
-            maxTps = currentTps;
-        } else {
-            minTps = Math.min(minTps, currentTps);
-            maxTps = Math.max(maxTps, currentTps);
+        long now = System.nanoTime();
+        tpsStats.record(now, currentTps);
+
+        WindowStats tps1m = tpsStats.snapshot(now, ONE_MINUTE_NANOS);
+        WindowStats tps5m = tpsStats.snapshot(now, FIVE_MINUTES_NANOS);
+        WindowStats tps15m = tpsStats.snapshot(now, FIFTEEN_MINUTES_NANOS);
+
+        List<WorldTpsMetrics> worldTps = tickCapture.getWorldTps();
+        TickDurationTracker.Windows windows = lastTickWindows;
+        return new TpsMetrics(
+                currentTps,
+                tps5m.average(),
+                tps5m.min(),
+                tps5m.max(),
+                tps1m,
+                tps5m,
+                tps15m,
+                windows.window1s(),
+                windows.window10s(),
+                windows.window1m(),
+                windows.window5m(),
+                worldTps,
+                findWorstWorld(worldTps)
+        );
+    }
+
+    /**
+     * TPS of the default world from its 10s average tick length, without capturing ticks or updating any
+     * statistics, so it is cheap enough for every sub-second sample. NaN without a world or tick metrics.
+     */
+    public double sampleCurrentTps() {
+        World world = findDefaultWorld();
+        HistoricMetric metrics = world != null ? world.getBufferedTickLengthMetricSet() : null;
+        if (metrics == null) {
+            return Double.NaN;
         }
-        sumTps += currentTps;
-        tpsSamples++;
+        double avgTickNanos = metrics.getAverage(0);
+        return avgTickNanos > 0.0
+                ? nanosToTps(Math.max(avgTickNanos, world.getTickStepNanos()))
+                : Double.NaN;
+    }
 
-        double averageTps = tpsSamples > 0 ? sumTps / tpsSamples : currentTps;
+    /**
+     * The default world, or the first loaded world when there is no default.
+     */
+    private static World findDefaultWorld() {
+        World defaultWorld = Universe.get().getDefaultWorld();
+        if (defaultWorld != null) {
+            return defaultWorld;
+        }
+        Map<String, World> worlds = Universe.get().getWorlds();
+        return worlds.isEmpty() ? null : worlds.values().iterator().next();
+    }
 
-        return new TpsMetrics(currentTps, averageTps, minTps, maxTps);
+    private static WorldTpsMetrics findWorstWorld(List<WorldTpsMetrics> worldTps) {
+        WorldTpsMetrics worst = null;
+        for (WorldTpsMetrics world : worldTps) {
+            if (worst == null
+                    || world.currentTps() < worst.currentTps()
+                    || (world.currentTps() == worst.currentTps() && world.tickTime1m().p99() > worst.tickTime1m().p99())) {
+                worst = world;
+            }
+        }
+        return worst;
     }
 
     private double getTPS(World world) {
@@ -92,6 +167,8 @@ public final class TpsMonitor {
         lastTickAvg1mNanos = getAverageSafe(metrics, 1);
         lastTickAvg5mNanos = getAverageSafe(metrics, 2);
         lastTickAvg1sNanos = computeWindowAverage(metrics, 1_000_000_000L);
+
+        lastTickWindows = tickCapture.tracker(world.getName()).summarize();
         return nanosToTps(Math.max(avgTickNanos, lastTickStepNanos));
     }
 
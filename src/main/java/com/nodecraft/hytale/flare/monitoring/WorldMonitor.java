@@ -6,7 +6,11 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.component.Store;
+import com.nodecraft.hytale.flare.config.EntityCensusConfig;
 import com.nodecraft.hytale.flare.config.MonitorConfig;
+import com.nodecraft.hytale.flare.model.ChunkRates;
+import com.nodecraft.hytale.flare.model.EntityCensus;
+import com.nodecraft.hytale.flare.model.SystemTimingMetrics;
 import com.nodecraft.hytale.flare.model.WorldMetrics;
 import com.nodecraft.hytale.flare.model.WorldSnapshot;
 import java.util.ArrayList;
@@ -14,40 +18,97 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collects per-world counters by running a task on each world's executor.
+ *
+ * All worlds share one collection deadline, so a stalled world thread can delay a collect by at most
+ * {@link #COLLECT_TIMEOUT_NANOS}. A world that misses the deadline reports its last good snapshot marked
+ * stale, along with how long its task has been outstanding. At most one task is queued per world: until
+ * it runs, later collects wait on the same task instead of piling more work onto the stalled thread.
+ *
+ * Collecting drains the per-system timings, so commands read {@link #latest()} and leave draining to
+ * the profiler.
+ */
+public final class WorldMonitor implements Monitor<WorldMetrics> {
+    private static final long COLLECT_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long LATEST_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(30);
 
-public final class WorldMonitor {
     private final MonitorConfig config;
+    private final EntityCensusConfig censusConfig;
+    private final WorldTickCapture tickCapture;
+    private final SystemTimings systemTimings;
+    private final Map<String, WorldState> states = new ConcurrentHashMap<>();
+    private volatile WorldMetrics lastMetrics = null;
+    private volatile long lastCollectNanos = 0L;
 
-    public WorldMonitor(MonitorConfig config) {
+    public WorldMonitor(
+        MonitorConfig config,
+        EntityCensusConfig censusConfig,
+        WorldTickCapture tickCapture,
+        SystemTimings systemTimings
+    ) {
         this.config = config;
+        this.censusConfig = censusConfig;
+        this.tickCapture = tickCapture;
+        this.systemTimings = systemTimings;
+    }
+
+    @Override
+    public String getName() {
+        return "world";
+    }
+
+    @Override
+    public CostClass getCostClass() {
+        return CostClass.EXPENSIVE;
     }
 
+    @Override
     public boolean isEnabled() {
         return config.isEnabled();
     }
 
+    @Override
     public WorldMetrics collect() {
         if (!isEnabled()) {
             return null;
         }
 
-        Map<String, World> worlds = Universe.get().getWorlds();
+        Universe universe = Universe.get();
+        Map<String, World> worlds = universe != null ? universe.getWorlds() : Map.of();
+        states.keySet().retainAll(worlds.keySet());
         if (worlds.isEmpty()) {
-            return new WorldMetrics(0, 0, 0, List.of());
+            return new WorldMetrics(0, 0, 0, List.of(), 0, 0L);
         }
 
-        List<CompletableFuture<WorldSnapshot>> futures = new ArrayList<>(worlds.size());
+        long start = System.nanoTime();
+        List<WorldState> requested = new ArrayList<>(worlds.size());
         for (World world : worlds.values()) {
-            futures.add(CompletableFuture.supplyAsync(() -> collectWorld(world), world)
-                .exceptionally(ex -> null));
+            WorldState state = states.computeIfAbsent(world.getName(), name -> new WorldState());
+            state.request(world, start);
+            requested.add(state);
         }
 
+        long deadline = start + COLLECT_TIMEOUT_NANOS;
         List<WorldSnapshot> snapshots = new ArrayList<>(worlds.size());
-        for (CompletableFuture<WorldSnapshot> future : futures) {
-            WorldSnapshot snapshot = future.join();
-            if (snapshot != null) {
-                snapshots.add(snapshot);
+        int staleWorldCount = 0;
+        long maxUnresponsiveMillis = 0L;
+        for (WorldState state : requested) {
+            state.await(deadline);
+            WorldSnapshot snapshot = state.current(System.nanoTime());
+            if (snapshot == null) {
+                continue;
             }
+            if (snapshot.stale()) {
+                staleWorldCount++;
+                maxUnresponsiveMillis = Math.max(maxUnresponsiveMillis, snapshot.unresponsiveMillis());
+            }
+            snapshots.add(snapshot);
         }
 
         snapshots.sort(Comparator.comparing(WorldSnapshot::name));
@@ -59,18 +120,52 @@ public final class WorldMonitor {
             totalEntities += snapshot.entityCount();
         }
 
-        return new WorldMetrics(snapshots.size(), totalLoadedChunks, totalEntities, snapshots);
+        WorldMetrics metrics = new WorldMetrics(
+            snapshots.size(),
+            totalLoadedChunks,
+            totalEntities,
+            snapshots,
+            staleWorldCount,
+            maxUnresponsiveMillis
+        );
+        lastMetrics = metrics;
+        lastCollectNanos = start;
+        return metrics;
+    }
+
+    /**
+     * Returns the last collected metrics for display, with the system timings the profiler drained last.
+     * Only collects when nothing collected them in the last 30 seconds, e.g. while no profile is running.
+     */
+    public WorldMetrics latest() {
+        WorldMetrics metrics = lastMetrics;
+        if (metrics != null && isEnabled() && System.nanoTime() - lastCollectNanos < LATEST_MAX_AGE_NANOS) {
+            return metrics;
+        }
+        return collect();
     }
 
-    private WorldSnapshot collectWorld(World world) {
+    private WorldSnapshot collectWorld(World world, ChunkRateTracker chunkRateTracker, ArchetypeCensus census) {
         ChunkStore chunkStore = world.getChunkStore();
         int loadedChunks = chunkStore.getLoadedChunksCount();
         int totalGeneratedChunks = chunkStore.getTotalGeneratedChunksCount();
         int totalLoadedChunks = chunkStore.getTotalLoadedChunksCount();
+        ChunkRates chunkRates = chunkRateTracker.update(
+            System.nanoTime(),
+            loadedChunks,
+            totalGeneratedChunks,
+            totalLoadedChunks
+        );
 
         Store<EntityStore> entityStore = world.getEntityStore().getStore();
         int entityCount = entityStore.getEntityCount();
         int archetypeChunkCount = entityStore.getArchetypeChunkCount();
+        EntityCensus entityCensus = census != null ? census.advance(entityStore, System.nanoTime()) : null;
+
+        WorldSystemTimings timings = systemTimings.find(world.getName());
+        SystemTimingMetrics systemTimingMetrics = timings != null
+            ? timings.drain(System.nanoTime(), systemTimings.getTopSystems())
+            : null;
 
         HistoricMetric tickMetrics = world.getBufferedTickLengthMetricSet();
         double avgTickNanos = tickMetrics != null ? tickMetrics.getAverage(0) : 0.0;
@@ -84,7 +179,103 @@ public final class WorldMonitor {
             totalLoadedChunks,
             entityCount,
             archetypeChunkCount,
-            avgTickNanos
+            avgTickNanos,
+            tickCapture.getWorldTps(world.getName()),
+            chunkRates,
+            entityCensus,
+            systemTimingMetrics,
+            false,
+            0L
         );
     }
+
+    /**
+     * Outstanding task and last good snapshot for one world.
+     */
+    private final class WorldState {
+        private final ChunkRateTracker chunkRateTracker = new ChunkRateTracker();
+        private final ArchetypeCensus census = censusConfig.isEnabled() ? new ArchetypeCensus(censusConfig) : null;
+        private String name;
+        private CompletableFuture<WorldSnapshot> pending;
+        private long pendingSinceNanos;
+        private WorldSnapshot lastGood;
+        private boolean lastFailed;
+
+        /**
+         * Queues a collection task unless the previous one is still waiting on the world thread.
+         */
+        synchronized void request(World world, long now) {
+            name = world.getName();
+            if (pending != null && !pending.isDone()) {
+                return;
+            }
+            // A task that finished after the last deadline still carries good data
+            harvest();
+            CompletableFuture<WorldSnapshot> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> collectWorld(world, chunkRateTracker, census), world);
+            } catch (RuntimeException e) {
+                // Executor rejected the task, e.g. the world is shutting down
+                future = CompletableFuture.failedFuture(e);
+            }
+            pending = future;
+            pendingSinceNanos = now;
+        }
+
+        void await(long deadlineNanos) {
+            CompletableFuture<WorldSnapshot> future;
+            synchronized (this) {
+                future = pending;
+            }
+            if (future == null || future.isDone()) {
+                return;
+            }
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0L) {
+                return;
+            }
+            try {
+                future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException ignored) {
+                // Handled in current()
+            }
+        }
+
+        /**
+         * Returns the fresh snapshot if the task completed, otherwise the last good one marked stale.
+         */
+        synchronized WorldSnapshot current(long now) {
+            harvest();
+            if (pending == null && !lastFailed && lastGood != null) {
+                return lastGood;
+            }
+
+            long unresponsiveMillis = pending != null
+                    ? TimeUnit.NANOSECONDS.toMillis(now - pendingSinceNanos)
+                    : 0L;
+            if (lastGood == null) {
+                // Never answered yet; report the world so it does not silently disappear
+                return new WorldSnapshot(name, false, false, 0, 0, 0, 0, 0, 0.0,
+                        tickCapture.getWorldTps(name), ChunkRates.EMPTY, null, null, true, unresponsiveMillis);
+            }
+            return lastGood.asStale(tickCapture.getWorldTps(name), unresponsiveMillis);
+        }
+
+        /**
+         * Consumes a completed task into the last good snapshot.
+         */
+        private void harvest() {
+            if (pending == null || !pending.isDone()) {
+                return;
+            }
+            WorldSnapshot result = pending.exceptionally(ex -> null).join();
+            pending = null;
+            lastFailed = result == null;
+            if (result != null) {
+                lastGood = result;
+            }
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.nodecraft.hytale.flare.model.PercentileSummary;
+import com.nodecraft.hytale.flare.model.SystemTimingMetrics;
+import com.nodecraft.hytale.flare.util.LogLinearHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-system duration histograms for one world.
+ *
+ * Every system gets its histogram when it is registered, so {@link #stop(int, long)} and
+ * {@link #endTick()} never allocate. The histograms are drained by the profiler's world collection task,
+ * which runs on the world thread like the systems themselves, so draining never races with a system
+ * being timed. Commands show the last drained metrics instead of draining.
+ */
+public final class WorldSystemTimings {
+    private final boolean enabled;
+    private final String[] names;
+    private final LogLinearHistogram[] histograms;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile int registered = 0;
+    private volatile long ticks = 0L;
+    private long lastDrainNanos = System.nanoTime();
+
+    WorldSystemTimings(boolean enabled, int capacity) {
+        this.enabled = enabled;
+        this.names = new String[capacity];
+        this.histograms = new LogLinearHistogram[capacity];
+    }
+
+    /**
+     * Registers a system and returns its ID, or returns the existing ID if the name is already registered.
+     * Returns -1 when disabled or when the world already has the maximum number of systems; stopping
+     * with -1 is a no-op.
+     */
+    public synchronized int register(String systemName) {
+        if (!enabled) {
+            return -1;
+        }
+        Integer existing = ids.get(systemName);
+        if (existing != null) {
+            return existing;
+        }
+        int id = registered;
+        if (id >= names.length) {
+            return -1;
+        }
+        names[id] = systemName;
+        histograms[id] = LogLinearHistogram.forDurations();
+        ids.put(systemName, id);
+        registered = id + 1;
+        return id;
+    }
+
+    /**
+     * Returns the start timestamp to pass to {@link #stop(int, long)}, or 0 when disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void stop(int systemId, long startNanos) {
+        if (startNanos == 0L || systemId < 0) {
+            return;
+        }
+        histograms[systemId].record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Marks the end of a world tick so system time can be reported per tick.
+     */
+    public void endTick() {
+        if (enabled) {
+            ticks++;
+        }
+    }
+
+    int registeredCount() {
+        return registered;
+    }
+
+    /**
+     * Summarizes and resets every system's histogram, returning the {@code limit} most expensive systems.
+     */
+    SystemTimingMetrics drain(long now, int limit) {
+        int count = registered;
+        long tickCount = ticks;
+        ticks = 0L;
+        long intervalNanos = now - lastDrainNanos;
+        lastDrainNanos = now;
+
+        // Sorted insertion into small primitive arrays keeps only the top entries
+        int[] topIds = new int[Math.min(limit, count)];
+        long[] topTotals = new long[topIds.length];
+        int topCount = 0;
+        PercentileSummary[] summaries = new PercentileSummary[count];
+        for (int id = 0; id < count; id++) {
+            LogLinearHistogram histogram = histograms[id];
+            summaries[id] = PercentileSummary.from(histogram);
+            long total = Math.round(histogram.getMean() * histogram.getTotalCount());
+            histogram.reset();
+            if (total <= 0L || topIds.length == 0) {
+                continue;
+            }
+            if (topCount == topIds.length && total <= topTotals[topCount - 1]) {
+                continue;
+            }
+            int position = topCount < topIds.length ? topCount++ : topCount - 1;
+            while (position > 0 && topTotals[position - 1] < total) {
+                topTotals[position] = topTotals[position - 1];
+                topIds[position] = topIds[position - 1];
+                position--;
+            }
+            topTotals[position] = total;
+            topIds[position] = id;
+        }
+
+        List<SystemTimingMetrics.SystemTiming> top = new ArrayList<>(topCount);
+        for (int i = 0; i < topCount; i++) {
+            int id = topIds[i];
+            top.add(new SystemTimingMetrics.SystemTiming(
+                    names[id],
+                    topTotals[i],
+                    tickCount > 0 ? topTotals[i] / (double) tickCount : 0.0,
+                    summaries[id]
+            ));
+        }
+        return new SystemTimingMetrics(intervalNanos, tickCount, count, top);
+    }
+}
@@ -0,0 +1,105 @@
+package com.nodecraft.hytale.flare.monitoring;
+
+import com.hypixel.hytale.metrics.metric.HistoricMetric;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.nodecraft.hytale.flare.model.WorldTpsMetrics;
+import com.nodecraft.hytale.flare.util.TickSampleRing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-world tick capture and TPS tracking shared by the monitors and the profiler.
+ *
+ * Each world gets a {@link TickDurationTracker} whose sample ring holds every tick length reported
+ * by the server, so consumers can read the exact per-tick series instead of polled averages.
+ */
+public final class WorldTickCapture {
+    private final Map<String, TickDurationTracker> trackers = new ConcurrentHashMap<>();
+
+    /**
+     * Pulls new ticks for every loaded world and forgets worlds that were unloaded.
+     */
+    public void captureAll() {
+        Map<String, World> worlds = Universe.get().getWorlds();
+        for (World world : worlds.values()) {
+            capture(world);
+        }
+        trackers.keySet().retainAll(worlds.keySet());
+    }
+
+    TickDurationTracker capture(World world) {
+        TickDurationTracker tracker = tracker(world.getName());
+        HistoricMetric metrics = world.getBufferedTickLengthMetricSet();
+        if (metrics != null) {
+            tracker.ingest(metrics);
+            tracker.updateTps(world.getTickStepNanos(), metrics.getAverage(0));
+        }
+        return tracker;
+    }
+
+    /**
+     * Returns the latest TPS statistics of every captured world, most expensive tick first.
+     */
+    public List<WorldTpsMetrics> getWorldTps() {
+        List<WorldTpsMetrics> result = new ArrayList<>(trackers.size());
+        for (Map.Entry<String, TickDurationTracker> entry : trackers.entrySet()) {
+            WorldTpsMetrics metrics = entry.getValue().toMetrics(entry.getKey());
+            if (metrics != null) {
+                result.add(metrics);
+            }
+        }
+        result.sort(Comparator.comparingDouble(WorldTpsMetrics::avgTickNanos).reversed());
+        return result;
+    }
+
+    public WorldTpsMetrics getWorldTps(String worldName) {
+        TickDurationTracker tracker = trackers.get(worldName);
+        return tracker != null ? tracker.toMetrics(worldName) : null;
+    }
+
+    TickDurationTracker tracker(String worldName) {
+        return trackers.computeIfAbsent(worldName, name -> new TickDurationTracker());
+    }
+
+    /**
+     * Returns the tick recorder of one world. Look it up once and call it from the world thread; once a
+     * world records through its hook, its metric buffer is no longer polled.
+     */
+    public TickRecorder recorder(String worldName) {
+        return tracker(worldName);
+    }
+
+    /**
+     * Records a tick directly, e.g. from a hook on the world thread. Prefer {@link #recorder(String)},
+     * which skips the per-tick lookup.
+     */
+    public void record(String worldName, long timestampNanos, long durationNanos) {
+        TickDurationTracker tracker = trackers.get(worldName);
+        (tracker != null ? tracker : tracker(worldName)).record(timestampNanos, durationNanos);
+    }
+
+    public TickSampleRing getSamples(String worldName) {
+        TickDurationTracker tracker = trackers.get(worldName);
+        return tracker != null ? tracker.samples() : null;
+    }
+
+    public Set<String> getWorldNames() {
+        return trackers.keySet();
+    }
+
+    /**
+     * Write side of a world's tick capture. Single writer; lock- and allocation-free after the first call.
+     */
+    public interface TickRecorder {
+        /**
+         * @param timestampNanos {@link System#nanoTime()} based, the clock of the world's tick metrics
+         */
+        void record(long timestampNanos, long durationNanos);
+    }
+}
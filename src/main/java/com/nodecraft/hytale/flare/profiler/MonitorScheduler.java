@@ -0,0 +1,324 @@
+package com.nodecraft.hytale.flare.profiler;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.nodecraft.hytale.flare.config.ProfilerConfig;
+import com.nodecraft.hytale.flare.model.MetricFrame;
+import com.nodecraft.hytale.flare.model.OverheadMetrics;
+import com.nodecraft.hytale.flare.monitoring.Monitor;
+import com.nodecraft.hytale.flare.monitoring.MonitorRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each monitor at its own interval and keeps its latest sample for snapshot assembly.
+ *
+ * The snapshot task drives the scheduler on the profiler thread: {@link #runDue(long)} collects every
+ * monitor whose interval has elapsed, and the snapshot then reads the latest samples, so a snapshot never
+ * sees a half-finished collection pass. Due times advance by whole intervals, with half a snapshot
+ * interval of tolerance, so a monitor on the snapshot interval doesn't skip a snapshot to timer jitter.
+ *
+ * With sub-second sampling a pass runs every sampling interval, but only the high-resolution monitors
+ * (see {@link #addHighResolution(Monitor)}) may run that often; every other monitor runs at most once per
+ * snapshot interval. Samples stay fresh until the snapshot that reads them takes them.
+ *
+ * Every collection is timed in CPU time of the profiler thread, so a monitor blocked waiting on another
+ * thread, such as the world monitor waiting on world threads, isn't charged for the wait; wall time is
+ * only used where the JVM can't measure thread CPU time. With adaptive sampling, a monitor whose average
+ * cost over its interval exceeds the configured share of a core has its interval doubled (up to
+ * {@link #MAX_STRETCH} times), and halved again once the shorter interval would cost less than half the
+ * budget. Monitors added with {@link #addFixedInterval(Monitor)} are never stretched.
+ */
+final class MonitorScheduler {
+    static final int MAX_STRETCH = 16;
+    // Weight of the newest collection in the average cost
+    private static final double COST_SMOOTHING = 0.25;
+
+    private final HytaleLogger logger;
+    private final ProfilerConfig config;
+    private final MonitorRegistry registry;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = threadBean.isCurrentThreadCpuTimeSupported();
+    private final List<ScheduledMonitor<?>> builtIn = new ArrayList<>();
+    private final Map<Monitor<?>, ScheduledMonitor<?>> registered = new LinkedHashMap<>();
+    private long sessionStartNanos = System.nanoTime();
+    private long totalCostNanos = 0L;
+    private long lastPassNanos = 0L;
+
+    MonitorScheduler(HytaleLogger logger, ProfilerConfig config, MonitorRegistry registry) {
+        this.logger = logger;
+        this.config = config;
+        this.registry = registry;
+    }
+
+    /**
+     * Schedules a built-in monitor and returns the handle its samples are read from.
+     */
+    <T> ScheduledMonitor<T> add(Monitor<T> monitor) {
+        ScheduledMonitor<T> scheduled = new ScheduledMonitor<>(monitor);
+        builtIn.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Schedules a cheap built-in monitor that may run on every sampling pass, below the snapshot interval.
+     */
+    <T> ScheduledMonitor<T> addHighResolution(Monitor<T> monitor) {
+        ScheduledMonitor<T> scheduled = add(monitor);
+        scheduled.highResolution = true;
+        return scheduled;
+    }
+
+    /**
+     * Schedules a built-in monitor that adaptive sampling never stretches. For monitors whose work runs
+     * on other threads, where the profiler thread's CPU time doesn't show what collecting really costs.
+     */
+    <T> ScheduledMonitor<T> addFixedInterval(Monitor<T> monitor) {
+        ScheduledMonitor<T> scheduled = add(monitor);
+        scheduled.fixedInterval = true;
+        return scheduled;
+    }
+
+    /**
+     * Makes every monitor due on the next pass, e.g. when a new session starts.
+     */
+    void reset() {
+        for (ScheduledMonitor<?> scheduled : builtIn) {
+            scheduled.reset();
+        }
+        registered.clear();
+        sessionStartNanos = System.nanoTime();
+        totalCostNanos = 0L;
+        lastPassNanos = 0L;
+    }
+
+    /**
+     * Collects every monitor that is due at {@code now}. Monitors that aren't due keep their previous
+     * sample.
+     */
+    void runDue(long now) {
+        syncRegistered();
+        long samplingIntervalNanos = config.getSamplingInterval().toNanos();
+        long snapshotIntervalNanos = config.getSnapshotInterval().toNanos();
+        long toleranceNanos = samplingIntervalNanos / 2;
+        long passStart = costClock();
+        for (ScheduledMonitor<?> scheduled : builtIn) {
+            long floorNanos = scheduled.highResolution ? samplingIntervalNanos : snapshotIntervalNanos;
+            run(scheduled, now, floorNanos, toleranceNanos);
+        }
+        for (ScheduledMonitor<?> scheduled : registered.values()) {
+            run(scheduled, now, snapshotIntervalNanos, toleranceNanos);
+        }
+        lastPassNanos = costClock() - passStart;
+    }
+
+    /**
+     * Collection cost of every enabled monitor as of the last pass.
+     */
+    OverheadMetrics overhead() {
+        List<OverheadMetrics.MonitorCost> monitors = new ArrayList<>(builtIn.size() + registered.size());
+        double coreShare = 0.0;
+        for (ScheduledMonitor<?> scheduled : builtIn) {
+            coreShare += addCost(monitors, scheduled);
+        }
+        for (ScheduledMonitor<?> scheduled : registered.values()) {
+            coreShare += addCost(monitors, scheduled);
+        }
+        long sessionNanos = System.nanoTime() - sessionStartNanos;
+        return new OverheadMetrics(
+                lastPassNanos,
+                totalCostNanos,
+                sessionNanos > 0L ? (double) totalCostNanos / sessionNanos : 0.0,
+                coreShare,
+                config.isAdaptiveSampling(),
+                monitors
+        );
+    }
+
+    private static double addCost(List<OverheadMetrics.MonitorCost> monitors, ScheduledMonitor<?> scheduled) {
+        if (scheduled.collections == 0L || !scheduled.monitor.isEnabled()) {
+            return 0.0;
+        }
+        double coreShare = scheduled.coreShare();
+        monitors.add(new OverheadMetrics.MonitorCost(
+                scheduled.monitor.getName(),
+                scheduled.monitor.getCostClass().name(),
+                scheduled.collections,
+                scheduled.lastCostNanos,
+                scheduled.averageCostNanos,
+                scheduled.intervalNanos,
+                scheduled.stretch,
+                coreShare
+        ));
+        return coreShare;
+    }
+
+    /**
+     * Metric frames of the registered monitors collected since the previous call.
+     */
+    List<MetricFrame> frames() {
+        if (registered.isEmpty()) {
+            return List.of();
+        }
+        List<MetricFrame> frames = new ArrayList<>(registered.size());
+        for (ScheduledMonitor<?> scheduled : registered.values()) {
+            MetricFrame frame = scheduled.takeFrame();
+            if (frame != null) {
+                frames.add(frame);
+            }
+        }
+        return frames;
+    }
+
+    private void syncRegistered() {
+        List<Monitor<?>> monitors = registry.getMonitors();
+        registered.keySet().retainAll(monitors);
+        for (Monitor<?> monitor : monitors) {
+            registered.computeIfAbsent(monitor, ScheduledMonitor::new);
+        }
+    }
+
+    private void run(ScheduledMonitor<?> scheduled, long now, long floorNanos, long toleranceNanos) {
+        if (scheduled.scheduled && now - scheduled.nextDueNanos < -toleranceNanos) {
+            return;
+        }
+        long start = costClock();
+        try {
+            scheduled.collect();
+        } catch (RuntimeException e) {
+            logger.atWarning().log("Monitor %s failed to collect: %s", scheduled.monitor.getName(), e.getMessage());
+        }
+        long costNanos = costClock() - start;
+        totalCostNanos += costNanos;
+
+        long baseIntervalNanos = Math.max(floorNanos, intervalNanos(scheduled.monitor));
+        scheduled.recordCost(costNanos, baseIntervalNanos);
+        if (config.isAdaptiveSampling() && !scheduled.fixedInterval) {
+            scheduled.adapt(baseIntervalNanos, config.getMonitorBudgetPercent() / 100.0);
+        } else {
+            scheduled.stretch = 1;
+        }
+
+        long intervalNanos = baseIntervalNanos * scheduled.stretch;
+        scheduled.intervalNanos = intervalNanos;
+        scheduled.nextDueNanos = scheduled.scheduled ? scheduled.nextDueNanos + intervalNanos : now + intervalNanos;
+        if (scheduled.nextDueNanos - now <= toleranceNanos) {
+            // Fell behind by a whole interval (long GC, slow collection); don't run a burst to catch up
+            scheduled.nextDueNanos = now + intervalNanos;
+        }
+        scheduled.scheduled = true;
+    }
+
+    /**
+     * CPU time of the profiler thread, or wall time when the JVM can't measure it.
+     */
+    private long costClock() {
+        if (cpuTimeSupported) {
+            long cpuNanos = threadBean.getCurrentThreadCpuTime();
+            if (cpuNanos >= 0L) {
+                return cpuNanos;
+            }
+        }
+        return System.nanoTime();
+    }
+
+    private long intervalNanos(Monitor<?> monitor) {
+        long intervalMillis = monitor.getIntervalMillis();
+        if (intervalMillis <= 0L) {
+            intervalMillis = monitor.getCostClass() == Monitor.CostClass.EXPENSIVE
+                    ? config.getSystemMetricsIntervalMs()
+                    : 0L;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * A monitor's schedule and latest sample. Only touched by the profiler thread.
+     */
+    static final class ScheduledMonitor<T> {
+        private final Monitor<T> monitor;
+        private boolean highResolution = false;
+        private boolean fixedInterval = false;
+        private boolean scheduled = false;
+        private long nextDueNanos;
+        private T latest;
+        private boolean fresh = false;
+        private long collections = 0L;
+        private long lastCostNanos = 0L;
+        private double averageCostNanos = 0.0;
+        private long intervalNanos = 0L;
+        private int stretch = 1;
+
+        private ScheduledMonitor(Monitor<T> monitor) {
+            this.monitor = monitor;
+        }
+
+        /**
+         * The latest sample, or null if the monitor is disabled or hasn't been collected yet.
+         */
+        T latest() {
+            return latest;
+        }
+
+        /**
+         * Whether {@link #latest()} was collected since the previous call rather than carried over.
+         * A collection that returns the same object as before doesn't count.
+         */
+        boolean takeFresh() {
+            boolean wasFresh = fresh;
+            fresh = false;
+            return wasFresh;
+        }
+
+        private void reset() {
+            scheduled = false;
+            latest = null;
+            fresh = false;
+            collections = 0L;
+            lastCostNanos = 0L;
+            averageCostNanos = 0.0;
+            stretch = 1;
+        }
+
+        private void recordCost(long costNanos, long baseIntervalNanos) {
+            averageCostNanos = collections == 0L
+                    ? costNanos
+                    : averageCostNanos + (costNanos - averageCostNanos) * COST_SMOOTHING;
+            lastCostNanos = costNanos;
+            collections++;
+            intervalNanos = baseIntervalNanos * stretch;
+        }
+
+        private void adapt(long baseIntervalNanos, double budget) {
+            if (averageCostNanos > budget * baseIntervalNanos * stretch) {
+                stretch = Math.min(MAX_STRETCH, stretch * 2);
+            } else if (stretch > 1 && averageCostNanos < budget * 0.5 * baseIntervalNanos * (stretch / 2)) {
+                stretch /= 2;
+            }
+        }
+
+        private double coreShare() {
+            return intervalNanos > 0L ? averageCostNanos / intervalNanos : 0.0;
+        }
+
+        private void collect() {
+            if (!monitor.isEnabled()) {
+                latest = null;
+                return;
+            }
+            // Monitors that rate-limit themselves hand back the previous object, which isn't a new sample
+            T value = monitor.collect();
+            fresh |= value != latest;
+            latest = value;
+        }
+
+        private MetricFrame takeFrame() {
+            return takeFresh() ? Monitor.toFrame(monitor, latest) : null;
+        }
+    }
+}
@@ -4,8 +4,24 @@ import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.nodecraft.hytale.flare.config.ProfilerConfig;
 import com.nodecraft.hytale.flare.monitoring.*;
+import com.nodecraft.hytale.flare.model.AllocationMetrics;
+import com.nodecraft.hytale.flare.model.ContainerMetrics;
+import com.nodecraft.hytale.flare.model.CpuMetrics;
 import com.nodecraft.hytale.flare.model.CpuProfileData;
+import com.nodecraft.hytale.flare.model.GcMetrics;
+import com.nodecraft.hytale.flare.model.HeapMetrics;
+import com.nodecraft.hytale.flare.model.IoMetrics;
+import com.nodecraft.hytale.flare.model.JitMetrics;
+import com.nodecraft.hytale.flare.model.MemoryPoolMetrics;
+import com.nodecraft.hytale.flare.model.NetworkMetrics;
+import com.nodecraft.hytale.flare.model.OffHeapMetrics;
+import com.nodecraft.hytale.flare.model.OverheadMetrics;
 import com.nodecraft.hytale.flare.model.PerformanceSnapshot;
+import com.nodecraft.hytale.flare.model.QueueLatencyMetrics;
+import com.nodecraft.hytale.flare.model.SafepointMetrics;
+import com.nodecraft.hytale.flare.model.ThreadMetrics;
+import com.nodecraft.hytale.flare.model.TpsMetrics;
+import com.nodecraft.hytale.flare.model.WorldMetrics;
 import com.nodecraft.hytale.flare.util.EnvironmentInfoCollector;
 
 import java.nio.file.Path;
@@ -18,13 +34,10 @@ import java.util.concurrent.atomic.AtomicReference;
 public final class PerformanceProfiler {
     private final HytaleLogger logger;
     private final ProfilerConfig config;
-    private final HeapMonitor heapMonitor;
     private final GcMonitor gcMonitor;
-    private final ThreadMonitor threadMonitor;
     private final TpsMonitor tpsMonitor;
-    private final CpuMonitor cpuMonitor;
     private final NetworkMonitor networkMonitor;
-    private final WorldMonitor worldMonitor;
+    private final WorldTickCapture tickCapture;
     private final Path profilesDirectory;
     private final String pluginVersion;
 
@@ -33,38 +46,76 @@ public final class PerformanceProfiler {
     private final AsyncProfilerWrapper asyncProfiler;
     private java.util.concurrent.ScheduledFuture<?> autoStopTask;
     
-    // Cached metrics for tiered collection
-    private volatile PerformanceSnapshot lastFullSnapshot = null;
-    private volatile Instant lastFullCollection = Instant.MIN;
-    private final long fullCollectionIntervalMs;
+    // Each monitor runs at its own interval; snapshots are assembled from the latest samples
+    private final MonitorScheduler scheduler;
+    private final MonitorScheduler.ScheduledMonitor<HeapMetrics> heap;
+    private final MonitorScheduler.ScheduledMonitor<GcMetrics> gc;
+    private final MonitorScheduler.ScheduledMonitor<ThreadMetrics> threads;
+    private final MonitorScheduler.ScheduledMonitor<TpsMetrics> tps;
+    private final MonitorScheduler.ScheduledMonitor<Double> tpsSample;
+    private final MonitorScheduler.ScheduledMonitor<CpuMetrics> cpu;
+    private final MonitorScheduler.ScheduledMonitor<WorldMetrics> world;
+    private final MonitorScheduler.ScheduledMonitor<NetworkMetrics> network;
+    private final MonitorScheduler.ScheduledMonitor<MemoryPoolMetrics> memoryPools;
+    private final MonitorScheduler.ScheduledMonitor<AllocationMetrics> allocation;
+    private final MonitorScheduler.ScheduledMonitor<OffHeapMetrics> offHeap;
+    private final MonitorScheduler.ScheduledMonitor<ContainerMetrics> container;
+    private final MonitorScheduler.ScheduledMonitor<QueueLatencyMetrics> queueLatency;
+    private final MonitorScheduler.ScheduledMonitor<JitMetrics> jit;
+    private final MonitorScheduler.ScheduledMonitor<SafepointMetrics> safepoints;
+    private final MonitorScheduler.ScheduledMonitor<IoMetrics> io;
+    private volatile OverheadMetrics lastOverhead = null;
+    // Full snapshot schedule for sub-second sampling, only touched by the profiler thread
+    private boolean snapshotScheduled = false;
+    private long nextSnapshotNanos;
+    // Last GC pause event already written to the active session
+    private volatile long lastGcPauseSequence = 0L;
 
+    /**
+     * Schedules every built-in monitor of {@code monitorRegistry}, along with the monitors other plugins
+     * add to it later.
+     */
     public PerformanceProfiler(
             HytaleLogger logger,
             ProfilerConfig config,
-            HeapMonitor heapMonitor,
-            GcMonitor gcMonitor,
-            ThreadMonitor threadMonitor,
-            TpsMonitor tpsMonitor,
-            CpuMonitor cpuMonitor,
-            NetworkMonitor networkMonitor,
-            WorldMonitor worldMonitor,
+            MonitorRegistry monitorRegistry,
+            WorldTickCapture tickCapture,
             Path profilesDirectory,
             String pluginVersion
     ) {
         this.logger = logger;
         this.config = config;
-        this.heapMonitor = heapMonitor;
-        this.gcMonitor = gcMonitor;
-        this.threadMonitor = threadMonitor;
-        this.tpsMonitor = tpsMonitor;
-        this.cpuMonitor = cpuMonitor;
-        this.networkMonitor = networkMonitor;
-        this.worldMonitor = worldMonitor;
+        this.gcMonitor = monitorRegistry.getBuiltIn(GcMonitor.class);
+        this.tpsMonitor = monitorRegistry.getBuiltIn(TpsMonitor.class);
+        this.networkMonitor = monitorRegistry.getBuiltIn(NetworkMonitor.class);
+        this.tickCapture = tickCapture;
         this.profilesDirectory = profilesDirectory;
         this.pluginVersion = pluginVersion;
-        
-        // Configure tiered collection interval (collect full metrics less frequently)
-        this.fullCollectionIntervalMs = config.getSystemMetricsIntervalMs();
+
+        // Cheap monitors are collected every snapshot, expensive ones every SystemMetricsIntervalMs
+        HeapMonitor heapMonitor = monitorRegistry.getBuiltIn(HeapMonitor.class);
+        this.scheduler = new MonitorScheduler(logger, config, monitorRegistry);
+        this.heap = scheduler.add(heapMonitor);
+        this.gc = scheduler.add(Monitor.of("gc", Monitor.CostClass.EXPENSIVE, gcMonitor::isEnabled, this::collectGc));
+        this.threads = scheduler.add(monitorRegistry.getBuiltIn(ThreadMonitor.class));
+        // Full TPS collection captures every world's ticks, so only the current TPS is read per sample
+        this.tps = scheduler.add(tpsMonitor);
+        this.tpsSample = scheduler.addHighResolution(
+                Monitor.of("tpsSample", Monitor.CostClass.CHEAP,
+                        () -> tpsMonitor.isEnabled() && config.isSubSecondSampling(), tpsMonitor::sampleCurrentTps));
+        this.cpu = scheduler.addHighResolution(monitorRegistry.getBuiltIn(CpuMonitor.class));
+        // World collection runs on the world threads, so its cost isn't visible to adaptive sampling
+        this.world = scheduler.addFixedInterval(monitorRegistry.getBuiltIn(WorldMonitor.class));
+        this.network = scheduler.addHighResolution(networkMonitor);
+        this.memoryPools = scheduler.add(
+                Monitor.of("memoryPools", Monitor.CostClass.EXPENSIVE, heapMonitor::isEnabled, heapMonitor::collectPools));
+        this.allocation = scheduler.add(monitorRegistry.getBuiltIn(AllocationMonitor.class));
+        this.offHeap = scheduler.add(monitorRegistry.getBuiltIn(OffHeapMonitor.class));
+        this.container = scheduler.add(monitorRegistry.getBuiltIn(ContainerMonitor.class));
+        this.queueLatency = scheduler.add(monitorRegistry.getBuiltIn(QueueLatencyMonitor.class));
+        this.jit = scheduler.add(monitorRegistry.getBuiltIn(JitMonitor.class));
+        this.safepoints = scheduler.add(monitorRegistry.getBuiltIn(SafepointMonitor.class));
+        this.io = scheduler.add(monitorRegistry.getBuiltIn(IoMonitor.class));
         
         // Create dedicated executor service for profiling operations
         this.profilerExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
@@ -135,6 +186,12 @@ public final class PerformanceProfiler {
                 profilerExecutor
         );
         if (activeSession.compareAndSet(null, session)) {
+            // The scheduler is only touched by the profiler thread; this runs before the first snapshot
+            lastOverhead = null;
+            profilerExecutor.execute(this::resetSchedule);
+            lastGcPauseSequence = gcMonitor.getLastPauseSequence();
+            tickCapture.captureAll();
+            session.startTickTimelines(tickCapture);
             if (networkMonitor != null && networkMonitor.isEnabled()) {
                 networkMonitor.beginProfile();
             }
@@ -154,6 +211,8 @@ public final class PerformanceProfiler {
 
         cancelAutoStop();
         session.stop();
+        tickCapture.captureAll();
+        session.captureTicks(tickCapture);
         if (networkMonitor != null && networkMonitor.isEnabled()) {
             networkMonitor.endProfile();
         }
@@ -211,6 +270,14 @@ public final class PerformanceProfiler {
         }
     }
 
+    /**
+     * Collection cost of the monitors as of the last snapshot of the active session, or null when not
+     * profiling.
+     */
+    public OverheadMetrics getOverhead() {
+        return activeSession.get() != null ? lastOverhead : null;
+    }
+
     public ProfilerSession getActiveSession() {
         return activeSession.get();
     }
@@ -251,48 +318,25 @@ public final class PerformanceProfiler {
         }
 
         Instant now = Instant.now();
-        long timeSinceFullCollection;
-        if (lastFullSnapshot == null || Instant.MIN.equals(lastFullCollection)) {
-            timeSinceFullCollection = Long.MAX_VALUE;
-        } else {
-            timeSinceFullCollection = java.time.Duration.between(lastFullCollection, now).toMillis();
-        }
-        
-        // Tiered collection: collect expensive metrics less frequently
-        // Fast metrics (TPS, CPU) are collected every snapshot
-        // Slow metrics (Heap, GC, Threads) are collected less frequently
-        PerformanceSnapshot snapshot;
-        
-        if (timeSinceFullCollection >= fullCollectionIntervalMs || lastFullSnapshot == null) {
-            // Collect all metrics (full snapshot)
-            snapshot = new PerformanceSnapshot(
-                    now,
-                    heapMonitor.collect(),
-                    gcMonitor.collect(),
-                    threadMonitor.collect(),
-                    tpsMonitor.collect(),
-                    cpuMonitor.collect(),
-                    worldMonitor.collect(),
-                    networkMonitor.collect()
-            );
-            lastFullSnapshot = snapshot;
-            lastFullCollection = now;
+        long nowNanos = System.nanoTime();
+        scheduler.runDue(nowNanos);
+        OverheadMetrics overhead = scheduler.overhead();
+        lastOverhead = overhead;
+        if (session.hasSampleTimeline()) {
+            Double currentTps = tpsSample.latest();
+            session.addSample(nowNanos, currentTps != null ? currentTps : Double.NaN, cpu.latest(), network.latest());
+            if (isSnapshotDue(nowNanos)) {
+                addSnapshot(session, now, overhead);
+            }
         } else {
-            // Collect only fast-changing metrics, reuse cached slow metrics    
-            PerformanceSnapshot cached = lastFullSnapshot;
-            snapshot = new PerformanceSnapshot(
-                    now,
-                    cached.heap(),      // Reuse cached heap
-                    cached.gc(),        // Reuse cached GC
-                    cached.threads(),   // Reuse cached threads (most expensive)
-                    tpsMonitor.collect(), // Collect TPS (changes frequently)
-                    cpuMonitor.collect(), // Collect CPU (changes frequently)
-                    cached.world(),     // Reuse cached world snapshot
-                    networkMonitor.collect()
-            );
+            addSnapshot(session, now, overhead);
         }
 
-        session.addSnapshot(snapshot);
+        if (!tpsMonitor.isEnabled()) {
+            // TpsMonitor pulls new ticks for every world as part of collect()
+            tickCapture.captureAll();
+        }
+        session.captureTicks(tickCapture);
 
         if (!session.isActive()) {
             // Auto-stop if limits reached
@@ -301,6 +345,85 @@ public final class PerformanceProfiler {
         }
     }
 
+    /**
+     * With sub-second sampling, full snapshots stay on the snapshot interval while the cheap metrics of
+     * every pass go to the session's sample timeline.
+     */
+    private boolean isSnapshotDue(long nowNanos) {
+        long intervalNanos = config.getSnapshotInterval().toNanos();
+        long toleranceNanos = config.getSamplingInterval().toNanos() / 2;
+        if (snapshotScheduled && nowNanos - nextSnapshotNanos < -toleranceNanos) {
+            return false;
+        }
+        nextSnapshotNanos = snapshotScheduled ? nextSnapshotNanos + intervalNanos : nowNanos + intervalNanos;
+        if (nextSnapshotNanos - nowNanos <= toleranceNanos) {
+            nextSnapshotNanos = nowNanos + intervalNanos;
+        }
+        snapshotScheduled = true;
+        return true;
+    }
+
+    private void resetSchedule() {
+        scheduler.reset();
+        snapshotScheduled = false;
+    }
+
+    /**
+     * Adds a sparse snapshot: monitors that weren't collected again since the previous snapshot are left
+     * out and marked unchanged instead of repeating the same values.
+     */
+    private void addSnapshot(ProfilerSession session, Instant now, OverheadMetrics overhead) {
+        UnchangedFields unchanged = new UnchangedFields();
+        PerformanceSnapshot snapshot = new PerformanceSnapshot(
+                now,
+                unchanged.take(heap, PerformanceSnapshot.HEAP),
+                unchanged.take(gc, PerformanceSnapshot.GC),
+                unchanged.take(threads, PerformanceSnapshot.THREADS),
+                unchanged.take(tps, PerformanceSnapshot.TPS),
+                unchanged.take(cpu, PerformanceSnapshot.CPU),
+                unchanged.take(world, PerformanceSnapshot.WORLD),
+                unchanged.take(network, PerformanceSnapshot.NETWORK),
+                unchanged.take(memoryPools, PerformanceSnapshot.MEMORY_POOLS),
+                unchanged.take(allocation, PerformanceSnapshot.ALLOCATION),
+                unchanged.take(offHeap, PerformanceSnapshot.OFF_HEAP),
+                unchanged.take(container, PerformanceSnapshot.CONTAINER),
+                unchanged.take(queueLatency, PerformanceSnapshot.QUEUE_LATENCY),
+                unchanged.take(jit, PerformanceSnapshot.JIT),
+                unchanged.take(safepoints, PerformanceSnapshot.SAFEPOINTS),
+                unchanged.take(io, PerformanceSnapshot.IO),
+                scheduler.frames(),
+                overhead,
+                unchanged.mask
+        );
+
+        session.addSnapshot(snapshot);
+    }
+
+    private GcMetrics collectGc() {
+        GcMetrics metrics = gcMonitor.collect(lastGcPauseSequence);
+        if (metrics != null) {
+            lastGcPauseSequence = metrics.lastPauseSequence();
+        }
+        return metrics;
+    }
+
+    /**
+     * Builds the unchanged field mask of one snapshot.
+     */
+    private static final class UnchangedFields {
+        private long mask = 0L;
+
+        <T> T take(MonitorScheduler.ScheduledMonitor<T> monitor, int field) {
+            if (monitor.takeFresh()) {
+                return monitor.latest();
+            }
+            if (monitor.latest() != null) {
+                mask |= 1L << field;
+            }
+            return null;
+        }
+    }
+
     private void collectSnapshotSafe() {
         try {
             collectSnapshot();
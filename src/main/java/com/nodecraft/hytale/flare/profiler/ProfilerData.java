@@ -1,11 +1,9 @@
 package com.nodecraft.hytale.flare.profiler;
 
 import com.nodecraft.hytale.flare.model.CpuProfileData;
-import com.nodecraft.hytale.flare.model.PerformanceSnapshot;
 
 import java.time.Instant;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 
 public record ProfilerData(
@@ -16,18 +14,20 @@ public record ProfilerData(
     Instant endTime,
     Duration duration,
     Duration samplingInterval,
-    List<PerformanceSnapshot> snapshots,
-    CpuProfileData cpuProfile
+    SnapshotStore.View snapshots,
+    CpuProfileData cpuProfile,
+    List<TickTimeline> tickTimelines,
+    SampleTimeline sampleTimeline,
+    RollupTimeline rollups
 ) {
     public ProfilerData(ProfilerMetadata metadata, ProfilerPreamble preamble, Instant startTime, Duration samplingInterval) {
-        this(metadata, preamble, null, startTime, null, null, samplingInterval, new ArrayList<>(), null);
+        this(metadata, preamble, null, startTime, null, null, samplingInterval, SnapshotStore.View.EMPTY, null, List.of(), null, null);
     }
 
     public ProfilerData withEndTime(Instant endTime) {
         Duration duration = endTime != null && startTime != null
                 ? Duration.between(startTime, endTime)
                 : null;
-        // Create a copy of the snapshots list to maintain immutability
         return new ProfilerData(
                 metadata,
                 preamble,
@@ -36,8 +36,11 @@ public record ProfilerData(
                 endTime,
                 duration,
                 samplingInterval,
-                new ArrayList<>(snapshots),
-                cpuProfile
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
         );
     }
     
@@ -50,8 +53,11 @@ public record ProfilerData(
                 endTime,
                 duration,
                 samplingInterval,
-                new ArrayList<>(snapshots),
-                cpuProfile
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
         );
     }
 
@@ -64,8 +70,11 @@ public record ProfilerData(
                 endTime,
                 duration,
                 samplingInterval,
-                new ArrayList<>(snapshots),
-                cpuProfile
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
         );
     }
 
@@ -78,13 +87,80 @@ public record ProfilerData(
                 endTime,
                 duration,
                 samplingInterval,
-                new ArrayList<>(snapshots),
-                cpuProfile
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
         );
     }
 
-    public void addSnapshot(PerformanceSnapshot snapshot) {
-        snapshots.add(snapshot);
+    public ProfilerData withTickTimelines(List<TickTimeline> tickTimelines) {
+        return new ProfilerData(
+                metadata,
+                preamble,
+                postamble,
+                startTime,
+                endTime,
+                duration,
+                samplingInterval,
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
+        );
+    }
+
+    public ProfilerData withSnapshots(SnapshotStore.View snapshots) {
+        return new ProfilerData(
+                metadata,
+                preamble,
+                postamble,
+                startTime,
+                endTime,
+                duration,
+                samplingInterval,
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
+        );
+    }
+
+    public ProfilerData withSampleTimeline(SampleTimeline sampleTimeline) {
+        return new ProfilerData(
+                metadata,
+                preamble,
+                postamble,
+                startTime,
+                endTime,
+                duration,
+                samplingInterval,
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
+        );
+    }
+
+    public ProfilerData withRollups(RollupTimeline rollups) {
+        return new ProfilerData(
+                metadata,
+                preamble,
+                postamble,
+                startTime,
+                endTime,
+                duration,
+                samplingInterval,
+                snapshots,
+                cpuProfile,
+                tickTimelines,
+                sampleTimeline,
+                rollups
+        );
     }
 
     public int getSnapshotCount() {
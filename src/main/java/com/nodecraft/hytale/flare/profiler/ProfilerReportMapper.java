@@ -1,25 +1,45 @@
 package com.nodecraft.hytale.flare.profiler;
 
+import com.nodecraft.hytale.flare.model.AllocationMetrics;
+import com.nodecraft.hytale.flare.model.ChunkRates;
+import com.nodecraft.hytale.flare.model.ContainerMetrics;
 import com.nodecraft.hytale.flare.model.CpuMetrics;
+import com.nodecraft.hytale.flare.model.EntityCensus;
 import com.nodecraft.hytale.flare.model.CpuProfileData;
 import com.nodecraft.hytale.flare.model.GcMetrics;
+import com.nodecraft.hytale.flare.model.GcPauseEvent;
 import com.nodecraft.hytale.flare.model.HeapMetrics;
+import com.nodecraft.hytale.flare.model.IoMetrics;
+import com.nodecraft.hytale.flare.model.JitMetrics;
+import com.nodecraft.hytale.flare.model.MemoryPoolMetrics;
+import com.nodecraft.hytale.flare.model.MetricFrame;
 import com.nodecraft.hytale.flare.model.NetworkMetrics;
+import com.nodecraft.hytale.flare.model.OffHeapMetrics;
+import com.nodecraft.hytale.flare.model.OverheadMetrics;
+import com.nodecraft.hytale.flare.model.PercentileSummary;
 import com.nodecraft.hytale.flare.model.PerformanceSnapshot;
 import com.nodecraft.hytale.flare.model.StackFrame;
 import com.nodecraft.hytale.flare.model.StackSample;
+import com.nodecraft.hytale.flare.model.ThreadCpuUsage;
+import com.nodecraft.hytale.flare.model.QueueLatencyMetrics;
+import com.nodecraft.hytale.flare.model.SafepointMetrics;
+import com.nodecraft.hytale.flare.model.SystemTimingMetrics;
 import com.nodecraft.hytale.flare.model.ThreadMetrics;
 import com.nodecraft.hytale.flare.model.TpsMetrics;
+import com.nodecraft.hytale.flare.model.WindowStats;
 import com.nodecraft.hytale.flare.model.WorldMetrics;
 import com.nodecraft.hytale.flare.model.WorldSnapshot;
+import com.nodecraft.hytale.flare.model.WorldTpsMetrics;
 import com.nodecraft.hytale.flare.report.EnvironmentInfo;
 import com.nodecraft.hytale.flare.report.GcCollectorInfo;
+import com.nodecraft.hytale.flare.report.GcPoolUsage;
 import com.nodecraft.hytale.flare.report.ThreadState;
 import com.nodecraft.hytale.flare.report.ThreadStateCount;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongConsumer;
 
 public final class ProfilerReportMapper {
     private ProfilerReportMapper() {}
@@ -43,15 +63,135 @@ public final class ProfilerReportMapper {
             builder.setPostamble(toProto(data.postamble()));
         }
         if (data.snapshots() != null) {
-            for (PerformanceSnapshot snapshot : data.snapshots()) {
-                if (snapshot != null) {
-                    builder.addSnapshots(toProto(snapshot));
-                }
+            SnapshotStore.View snapshots = data.snapshots();
+            for (int i = 0; i < snapshots.size(); i++) {
+                builder.addSnapshots(snapshots.getSnapshot(i));
             }
+            builder.setEvictedSnapshots(snapshots.getEvictedSnapshots());
         }
         if (data.cpuProfile() != null) {
             builder.setCpuProfile(toProto(data.cpuProfile()));
         }
+        if (data.tickTimelines() != null) {
+            for (TickTimeline timeline : data.tickTimelines()) {
+                if (timeline != null) {
+                    builder.addTickTimelines(toProto(timeline));
+                }
+            }
+        }
+        if (data.sampleTimeline() != null) {
+            builder.setSampleTimeline(toProto(data.sampleTimeline()));
+        }
+        if (data.rollups() != null) {
+            for (RollupTimeline.Tier tier : data.rollups().getTiers()) {
+                builder.addRollups(toProto(tier));
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.WorldTickTimeline toProto(TickTimeline timeline) {
+        long[] timestamps = timeline.getTimestamps();
+        long[] durations = timeline.getDurations();
+        com.nodecraft.hytale.flare.report.WorldTickTimeline.Builder builder =
+                com.nodecraft.hytale.flare.report.WorldTickTimeline.newBuilder()
+                .setWorldName(nullToEmpty(timeline.getWorldName()))
+                .setEpochOffsetNanos(timeline.getEpochOffsetNanos())
+                .setDroppedTicks(timeline.getDroppedTicks())
+                .setEvictedTicks(timeline.getEvictedTicks());
+
+        if (timestamps.length > 0) {
+            builder.setFirstTimestampNanos(timestamps[0]);
+        }
+        long previous = timestamps.length > 0 ? timestamps[0] : 0L;
+        for (int i = 0; i < timestamps.length; i++) {
+            builder.addTimestampDeltasNanos(timestamps[i] - previous);
+            builder.addDurationNanos(durations[i]);
+            previous = timestamps[i];
+        }
+
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.SampleTimeline toProto(SampleTimeline timeline) {
+        long[] timestamps = timeline.getTimestamps();
+        com.nodecraft.hytale.flare.report.SampleTimeline.Builder builder =
+                com.nodecraft.hytale.flare.report.SampleTimeline.newBuilder()
+                .setIntervalNanos(timeline.getIntervalNanos())
+                .setEpochOffsetNanos(timeline.getEpochOffsetNanos())
+                .setDroppedSamples(timeline.getDroppedSamples())
+                .setMissedSamples(timeline.getMissedSamples())
+                .setEvictedSamples(timeline.getEvictedSamples());
+
+        if (timestamps.length > 0) {
+            builder.setFirstTimestampNanos(timestamps[0]);
+        }
+        long previous = timestamps.length > 0 ? timestamps[0] : 0L;
+        for (long timestamp : timestamps) {
+            builder.addTimestampDeltasNanos(timestamp - previous);
+            previous = timestamp;
+        }
+        for (float value : timeline.getTps()) {
+            builder.addTps(value);
+        }
+        for (float value : timeline.getProcessCpuLoad()) {
+            builder.addProcessCpuLoad(value);
+        }
+        for (float value : timeline.getSystemCpuLoad()) {
+            builder.addSystemCpuLoad(value);
+        }
+        addCounterDeltas(timeline.getCounter(SampleTimeline.SENT_BYTES), builder::addSentCompressedBytes);
+        addCounterDeltas(timeline.getCounter(SampleTimeline.RECEIVED_BYTES), builder::addReceivedCompressedBytes);
+        addCounterDeltas(timeline.getCounter(SampleTimeline.SENT_PACKETS), builder::addSentPackets);
+        addCounterDeltas(timeline.getCounter(SampleTimeline.RECEIVED_PACKETS), builder::addReceivedPackets);
+
+        return builder.build();
+    }
+
+    private static void addCounterDeltas(long[] totals, LongConsumer deltas) {
+        for (int i = 0; i < totals.length; i++) {
+            if (totals[i] < 0L || (i > 0 && totals[i - 1] < 0L)) {
+                deltas.accept(-1L);
+            } else {
+                deltas.accept(i == 0 ? totals[i] : Math.max(0L, totals[i] - totals[i - 1]));
+            }
+        }
+    }
+
+    private static com.nodecraft.hytale.flare.report.RollupTier toProto(RollupTimeline.Tier tier) {
+        com.nodecraft.hytale.flare.report.RollupTier.Builder builder =
+                com.nodecraft.hytale.flare.report.RollupTier.newBuilder()
+                .setBucketMillis(tier.getBucketMillis())
+                .setSketchGamma(RollupTimeline.SKETCH_GAMMA)
+                .setEvictedBuckets(tier.getEvictedBuckets());
+
+        for (int bucket = 0; bucket < tier.size(); bucket++) {
+            builder.addBucketStartMillis(tier.getBucketStartMillis(bucket));
+        }
+        for (SnapshotStore.Column column : SnapshotStore.Column.values()) {
+            com.nodecraft.hytale.flare.report.RollupSeries.Builder series =
+                    com.nodecraft.hytale.flare.report.RollupSeries.newBuilder()
+                    .setMetric(column.name());
+            for (int bucket = 0; bucket < tier.size(); bucket++) {
+                series.addCount(tier.getCount(bucket, column));
+                series.addMin(tier.getMin(bucket, column));
+                series.addMax(tier.getMax(bucket, column));
+                series.addAverage(tier.getAverage(bucket, column));
+                series.addLast(tier.getLast(bucket, column));
+
+                int[] keys = tier.getSketchKeys(bucket, column);
+                int[] counts = tier.getSketchCounts(bucket, column);
+                com.nodecraft.hytale.flare.report.RollupSketch.Builder sketch =
+                        com.nodecraft.hytale.flare.report.RollupSketch.newBuilder();
+                for (int bin = 0; bin < keys.length; bin++) {
+                    sketch.addKeys(keys[bin]);
+                    sketch.addCounts(counts[bin]);
+                }
+                series.addSketches(sketch);
+            }
+            builder.addSeries(series);
+        }
 
         return builder.build();
     }
@@ -126,7 +266,7 @@ public final class ProfilerReportMapper {
                 .build();
     }
 
-    private static com.nodecraft.hytale.flare.report.PerformanceSnapshot toProto(PerformanceSnapshot snapshot) {
+    static com.nodecraft.hytale.flare.report.PerformanceSnapshot toProto(PerformanceSnapshot snapshot) {
         com.nodecraft.hytale.flare.report.PerformanceSnapshot.Builder builder =
                 com.nodecraft.hytale.flare.report.PerformanceSnapshot.newBuilder()
                 .setTimestampMillis(toEpochMillis(snapshot.timestamp()));
@@ -152,7 +292,315 @@ public final class ProfilerReportMapper {
         if (snapshot.network() != null) {
             builder.setNetwork(toProto(snapshot.network()));
         }
+        if (snapshot.memoryPools() != null) {
+            builder.setMemoryPools(toProto(snapshot.memoryPools()));
+        }
+        if (snapshot.allocation() != null) {
+            builder.setAllocation(toProto(snapshot.allocation()));
+        }
+        if (snapshot.offHeap() != null) {
+            builder.setOffHeap(toProto(snapshot.offHeap()));
+        }
+        if (snapshot.container() != null) {
+            builder.setContainer(toProto(snapshot.container()));
+        }
+        if (snapshot.queueLatency() != null) {
+            builder.setQueueLatency(toProto(snapshot.queueLatency()));
+        }
+        if (snapshot.jit() != null) {
+            builder.setJit(toProto(snapshot.jit()));
+        }
+        if (snapshot.safepoints() != null) {
+            builder.setSafepoints(toProto(snapshot.safepoints()));
+        }
+        if (snapshot.io() != null) {
+            builder.setIo(toProto(snapshot.io()));
+        }
+        if (snapshot.frames() != null) {
+            for (MetricFrame frame : snapshot.frames()) {
+                builder.addFrames(toProto(frame));
+            }
+        }
+        if (snapshot.overhead() != null) {
+            builder.setOverhead(toProto(snapshot.overhead()));
+        }
+        builder.setUnchangedFields(snapshot.unchangedFields());
+
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.OverheadMetrics toProto(OverheadMetrics overhead) {
+        com.nodecraft.hytale.flare.report.OverheadMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.OverheadMetrics.newBuilder()
+                .setPassNanos(overhead.passNanos())
+                .setTotalCostNanos(overhead.totalCostNanos())
+                .setSessionCoreShare(overhead.sessionCoreShare())
+                .setCoreShare(overhead.coreShare())
+                .setAdaptive(overhead.adaptive());
+        for (OverheadMetrics.MonitorCost cost : overhead.monitors()) {
+            builder.addMonitors(com.nodecraft.hytale.flare.report.MonitorCost.newBuilder()
+                    .setMonitor(nullToEmpty(cost.monitor()))
+                    .setCostClass(nullToEmpty(cost.costClass()))
+                    .setCollections(cost.collections())
+                    .setLastCostNanos(cost.lastCostNanos())
+                    .setAverageCostNanos(cost.averageCostNanos())
+                    .setIntervalNanos(cost.intervalNanos())
+                    .setStretch(cost.stretch())
+                    .setCoreShare(cost.coreShare())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.MetricFrame toProto(MetricFrame frame) {
+        com.nodecraft.hytale.flare.report.MetricFrame.Builder builder =
+                com.nodecraft.hytale.flare.report.MetricFrame.newBuilder()
+                .setMonitor(nullToEmpty(frame.monitor()));
+        for (MetricFrame.Metric metric : frame.metrics()) {
+            builder.addValues(com.nodecraft.hytale.flare.report.MetricValue.newBuilder()
+                    .setName(nullToEmpty(metric.name()))
+                    .setValue(metric.value())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.IoMetrics toProto(IoMetrics io) {
+        com.nodecraft.hytale.flare.report.IoMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.IoMetrics.newBuilder()
+                .setProcessIoAvailable(io.processIoAvailable())
+                .setIntervalNanos(io.intervalNanos())
+                .setReadBytesTotal(io.readBytesTotal())
+                .setWriteBytesTotal(io.writeBytesTotal())
+                .setReadCharsTotal(io.readCharsTotal())
+                .setWriteCharsTotal(io.writeCharsTotal())
+                .setReadSyscallsTotal(io.readSyscallsTotal())
+                .setWriteSyscallsTotal(io.writeSyscallsTotal())
+                .setReadBytesDelta(io.readBytesDelta())
+                .setWriteBytesDelta(io.writeBytesDelta())
+                .setReadCharsDelta(io.readCharsDelta())
+                .setWriteCharsDelta(io.writeCharsDelta())
+                .setReadSyscallsDelta(io.readSyscallsDelta())
+                .setWriteSyscallsDelta(io.writeSyscallsDelta())
+                .setCancelledWriteBytesDelta(io.cancelledWriteBytesDelta())
+                .setOpenFileDescriptors(io.openFileDescriptors())
+                .setMaxFileDescriptors(io.maxFileDescriptors());
+        if (io.disks() != null) {
+            for (IoMetrics.DiskStats disk : io.disks()) {
+                builder.addDisks(com.nodecraft.hytale.flare.report.DiskStats.newBuilder()
+                        .setDevice(nullToEmpty(disk.device()))
+                        .addAllWorlds(disk.worlds())
+                        .setReadsDelta(disk.readsDelta())
+                        .setWritesDelta(disk.writesDelta())
+                        .setReadBytesDelta(disk.readBytesDelta())
+                        .setWriteBytesDelta(disk.writeBytesDelta())
+                        .setReadTimeMillisDelta(disk.readTimeMillisDelta())
+                        .setWriteTimeMillisDelta(disk.writeTimeMillisDelta())
+                        .setIoTimeMillisDelta(disk.ioTimeMillisDelta())
+                        .setInFlight(disk.inFlight())
+                        .build());
+            }
+        }
+        if (io.worldSaves() != null) {
+            for (IoMetrics.WorldSaveStats save : io.worldSaves()) {
+                builder.addWorldSaves(com.nodecraft.hytale.flare.report.WorldSaveStats.newBuilder()
+                        .setWorldName(nullToEmpty(save.worldName()))
+                        .setSaves(save.saves())
+                        .setTotalNanos(save.totalNanos())
+                        .setMaxNanos(save.maxNanos())
+                        .build());
+            }
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.SafepointMetrics toProto(SafepointMetrics safepoints) {
+        com.nodecraft.hytale.flare.report.SafepointMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.SafepointMetrics.newBuilder()
+                .setAvailable(safepoints.available())
+                .setSafepointCount(safepoints.safepointCount())
+                .setTotalPauseNanos(safepoints.totalPauseNanos())
+                .setTotalTimeToSafepointNanos(safepoints.totalTimeToSafepointNanos())
+                .setTimeToSafepoint1M(toProto(safepoints.timeToSafepoint1m()))
+                .setTimeToSafepoint5M(toProto(safepoints.timeToSafepoint5m()))
+                .setPause1M(toProto(safepoints.pause1m()))
+                .setPause5M(toProto(safepoints.pause5m()));
+        if (safepoints.operations() != null) {
+            for (SafepointMetrics.VmOperationStats operation : safepoints.operations()) {
+                builder.addOperations(com.nodecraft.hytale.flare.report.VmOperationStats.newBuilder()
+                        .setOperation(nullToEmpty(operation.operation()))
+                        .setCount(operation.count())
+                        .setTotalPauseNanos(operation.totalPauseNanos())
+                        .setTotalTimeToSafepointNanos(operation.totalTimeToSafepointNanos())
+                        .setMaxPauseNanos(operation.maxPauseNanos())
+                        .setPause(toProto(operation.pause()))
+                        .build());
+            }
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.JitMetrics toProto(JitMetrics jit) {
+        com.nodecraft.hytale.flare.report.JitMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.JitMetrics.newBuilder()
+                .setIntervalNanos(jit.intervalNanos())
+                .setCompilerName(nullToEmpty(jit.compilerName()))
+                .setTotalCompilationMillis(jit.totalCompilationMillis())
+                .setCompilationMillisDelta(jit.compilationMillisDelta())
+                .setLoadedClassCount(jit.loadedClassCount())
+                .setTotalLoadedClassCount(jit.totalLoadedClassCount())
+                .setUnloadedClassCount(jit.unloadedClassCount())
+                .setClassesLoadedPerSecond(jit.classesLoadedPerSecond())
+                .setClassesUnloadedPerSecond(jit.classesUnloadedPerSecond())
+                .setJfrAvailable(jit.jfrAvailable())
+                .setCompilationsDelta(jit.compilationsDelta())
+                .setDeoptimizationsDelta(jit.deoptimizationsDelta())
+                .setCodeCacheFullDelta(jit.codeCacheFullDelta())
+                .setCodeCacheFullTotal(jit.codeCacheFullTotal());
+        if (jit.codeCache() != null) {
+            for (JitMetrics.CodeCacheSegment segment : jit.codeCache()) {
+                builder.addCodeCache(com.nodecraft.hytale.flare.report.CodeCacheSegment.newBuilder()
+                        .setName(nullToEmpty(segment.name()))
+                        .setUsed(segment.used())
+                        .setCommitted(segment.committed())
+                        .setMax(segment.max())
+                        .build());
+            }
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.QueueLatencyMetrics toProto(QueueLatencyMetrics queueLatency) {
+        com.nodecraft.hytale.flare.report.QueueLatencyMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.QueueLatencyMetrics.newBuilder()
+                .setProbeIntervalNanos(queueLatency.probeIntervalNanos())
+                .setSchedulerDelay10S(toProto(queueLatency.schedulerDelay10s()))
+                .setSchedulerDelay1M(toProto(queueLatency.schedulerDelay1m()));
+        if (queueLatency.worlds() != null) {
+            for (QueueLatencyMetrics.WorldQueueLatency world : queueLatency.worlds()) {
+                builder.addWorlds(com.nodecraft.hytale.flare.report.WorldQueueLatency.newBuilder()
+                        .setWorldName(nullToEmpty(world.worldName()))
+                        .setLatency10S(toProto(world.latency10s()))
+                        .setLatency1M(toProto(world.latency1m()))
+                        .setOutstandingMillis(world.outstandingMillis())
+                        .build());
+            }
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.ContainerMetrics toProto(ContainerMetrics container) {
+        com.nodecraft.hytale.flare.report.ContainerMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.ContainerMetrics.newBuilder()
+                .setAvailable(container.available())
+                .setIntervalNanos(container.intervalNanos())
+                .setCpuLimitCores(container.cpuLimitCores())
+                .setCpuUsageCores(container.cpuUsageCores())
+                .setCpuPeriodsTotal(container.cpuPeriodsTotal())
+                .setCpuThrottledPeriodsTotal(container.cpuThrottledPeriodsTotal())
+                .setCpuThrottledUsecTotal(container.cpuThrottledUsecTotal())
+                .setCpuPeriodsDelta(container.cpuPeriodsDelta())
+                .setCpuThrottledPeriodsDelta(container.cpuThrottledPeriodsDelta())
+                .setCpuThrottledUsecDelta(container.cpuThrottledUsecDelta())
+                .setMemoryCurrentBytes(container.memoryCurrentBytes())
+                .setMemoryMaxBytes(container.memoryMaxBytes())
+                .setMemoryOomKillsTotal(container.memoryOomKillsTotal());
+        if (container.cpuPressure() != null) {
+            builder.setCpuPressure(toProto(container.cpuPressure()));
+        }
+        if (container.memoryPressure() != null) {
+            builder.setMemoryPressure(toProto(container.memoryPressure()));
+        }
+        if (container.ioPressure() != null) {
+            builder.setIoPressure(toProto(container.ioPressure()));
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.PressureStall toProto(ContainerMetrics.Pressure pressure) {
+        return com.nodecraft.hytale.flare.report.PressureStall.newBuilder()
+                .setSomeAvg10(pressure.someAvg10())
+                .setSomeAvg60(pressure.someAvg60())
+                .setFullAvg10(pressure.fullAvg10())
+                .setFullAvg60(pressure.fullAvg60())
+                .setSomeStallUsecDelta(pressure.someStallUsecDelta())
+                .setFullStallUsecDelta(pressure.fullStallUsecDelta())
+                .build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.OffHeapMetrics toProto(OffHeapMetrics offHeap) {
+        com.nodecraft.hytale.flare.report.OffHeapMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.OffHeapMetrics.newBuilder()
+                .setRssBytes(offHeap.rssBytes())
+                .setRssPeakBytes(offHeap.rssPeakBytes())
+                .setRssAnonBytes(offHeap.rssAnonBytes())
+                .setRssFileBytes(offHeap.rssFileBytes())
+                .setNmtAvailable(offHeap.nmtAvailable())
+                .setNmtReservedBytes(offHeap.nmtReservedBytes())
+                .setNmtCommittedBytes(offHeap.nmtCommittedBytes());
+        for (OffHeapMetrics.BufferPoolUsage pool : offHeap.bufferPools()) {
+            builder.addBufferPools(com.nodecraft.hytale.flare.report.BufferPoolUsage.newBuilder()
+                    .setName(nullToEmpty(pool.name()))
+                    .setCount(pool.count())
+                    .setMemoryUsed(pool.memoryUsed())
+                    .setTotalCapacity(pool.totalCapacity())
+                    .build());
+        }
+        for (OffHeapMetrics.NmtCategory category : offHeap.nmtCategories()) {
+            builder.addNmtCategories(com.nodecraft.hytale.flare.report.NmtCategory.newBuilder()
+                    .setName(nullToEmpty(category.name()))
+                    .setReservedBytes(category.reservedBytes())
+                    .setCommittedBytes(category.committedBytes())
+                    .build());
+        }
+        return builder.build();
+    }
 
+    private static com.nodecraft.hytale.flare.report.AllocationMetrics toProto(AllocationMetrics allocation) {
+        com.nodecraft.hytale.flare.report.AllocationMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.AllocationMetrics.newBuilder()
+                .setProcessBytesPerSecond(allocation.processBytesPerSecond())
+                .setAllocatedBytes(allocation.allocatedBytes())
+                .setIntervalNanos(allocation.intervalNanos());
+        for (AllocationMetrics.WorldAllocation world : allocation.worlds()) {
+            builder.addWorlds(com.nodecraft.hytale.flare.report.WorldAllocation.newBuilder()
+                    .setWorldName(nullToEmpty(world.worldName()))
+                    .setThreadId(world.threadId())
+                    .setAllocatedBytes(world.allocatedBytes())
+                    .setBytesPerSecond(world.bytesPerSecond())
+                    .build());
+        }
+        for (AllocationMetrics.ThreadAllocation thread : allocation.topThreads()) {
+            builder.addTopThreads(com.nodecraft.hytale.flare.report.ThreadAllocation.newBuilder()
+                    .setThreadId(thread.threadId())
+                    .setThreadName(nullToEmpty(thread.threadName()))
+                    .setAllocatedBytes(thread.allocatedBytes())
+                    .setBytesPerSecond(thread.bytesPerSecond())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.MemoryPoolMetrics toProto(MemoryPoolMetrics memory) {
+        com.nodecraft.hytale.flare.report.MemoryPoolMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.MemoryPoolMetrics.newBuilder()
+                .setLiveSetBytes(memory.liveSetBytes())
+                .setLiveSetSlopeMbPerHour(memory.liveSetSlopeMbPerHour())
+                .setLiveSetSamples(memory.liveSetSamples())
+                .setLiveSetWindowMillis(memory.liveSetWindowMillis());
+        if (memory.pools() != null) {
+            for (MemoryPoolMetrics.PoolUsage pool : memory.pools()) {
+                builder.addPools(com.nodecraft.hytale.flare.report.MemoryPoolUsage.newBuilder()
+                        .setName(nullToEmpty(pool.name()))
+                        .setHeap(pool.heap())
+                        .setUsed(pool.used())
+                        .setCommitted(pool.committed())
+                        .setMax(pool.max())
+                        .setPeakUsed(pool.peakUsed())
+                        .setCollectionUsed(pool.collectionUsed())
+                        .build());
+            }
+        }
         return builder.build();
     }
 
@@ -184,10 +632,62 @@ public final class ProfilerReportMapper {
                 }
             }
         }
+        if (gc.pauses1m() != null) {
+            builder.setPauses1M(toProto(gc.pauses1m()));
+        }
+        if (gc.pauses5m() != null) {
+            builder.setPauses5M(toProto(gc.pauses5m()));
+        }
+        List<GcPauseEvent> pauses = gc.recentPauses();
+        if (pauses != null) {
+            for (GcPauseEvent pause : pauses) {
+                if (pause != null) {
+                    builder.addPauses(toProto(pause));
+                }
+            }
+        }
 
         return builder.build();
     }
 
+    private static com.nodecraft.hytale.flare.report.GcPauseEvent toProto(GcPauseEvent pause) {
+        com.nodecraft.hytale.flare.report.GcPauseEvent.Builder builder =
+                com.nodecraft.hytale.flare.report.GcPauseEvent.newBuilder()
+                .setCollectorName(nullToEmpty(pause.collectorName()))
+                .setAction(nullToEmpty(pause.action()))
+                .setCause(nullToEmpty(pause.cause()))
+                .setStartTimeMillis(pause.startTimeMillis())
+                .setDurationMillis(pause.durationMillis())
+                .setConcurrent(pause.concurrent());
+
+        if (pause.pools() != null) {
+            for (GcPauseEvent.PoolUsage pool : pause.pools()) {
+                if (pool != null) {
+                    builder.addPools(GcPoolUsage.newBuilder()
+                            .setName(nullToEmpty(pool.name()))
+                            .setUsedBefore(pool.usedBefore())
+                            .setUsedAfter(pool.usedAfter())
+                            .setCommittedBefore(pool.committedBefore())
+                            .setCommittedAfter(pool.committedAfter())
+                            .build());
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.PercentileSummary toProto(PercentileSummary summary) {
+        return com.nodecraft.hytale.flare.report.PercentileSummary.newBuilder()
+                .setCount(summary.count())
+                .setP50(summary.p50())
+                .setP95(summary.p95())
+                .setP99(summary.p99())
+                .setMax(summary.max())
+                .setMean(summary.mean())
+                .build();
+    }
+
     private static GcCollectorInfo toProto(GcMetrics.GcCollectorInfo collector) {
         return GcCollectorInfo.newBuilder()
                 .setName(nullToEmpty(collector.name()))
@@ -203,7 +703,9 @@ public final class ProfilerReportMapper {
                 .setTotalThreads(threads.totalThreads())
                 .setPeakThreads(threads.peakThreads())
                 .setTotalStartedThreads(threads.totalStartedThreads())
-                .setDaemonThreads(threads.daemonThreads());
+                .setDaemonThreads(threads.daemonThreads())
+                .setThreadStatesSampled(threads.threadStatesSampled())
+                .setThreadStateSampleSize(threads.threadStateSampleSize());
 
         Map<Thread.State, Integer> byState = threads.threadsByState();
         if (byState != null) {
@@ -222,9 +724,29 @@ public final class ProfilerReportMapper {
             builder.addAllDeadlockedThreads(deadlocked);
         }
 
+        if (threads.topCpuThreads() != null) {
+            for (ThreadCpuUsage usage : threads.topCpuThreads()) {
+                builder.addTopCpuThreads(toProto(usage));
+            }
+        }
+        builder.setCpuSampleIntervalNanos(threads.cpuSampleIntervalNanos())
+                .setTotalThreadCpuUsage(threads.totalThreadCpuUsage());
+
         return builder.build();
     }
 
+    private static com.nodecraft.hytale.flare.report.ThreadCpuUsage toProto(ThreadCpuUsage usage) {
+        return com.nodecraft.hytale.flare.report.ThreadCpuUsage.newBuilder()
+                .setThreadId(usage.threadId())
+                .setThreadName(nullToEmpty(usage.threadName()))
+                .setState(toProto(usage.state()))
+                .setCpuTimeNanos(usage.cpuTimeNanos())
+                .setUserTimeNanos(usage.userTimeNanos())
+                .setTotalCpuTimeNanos(usage.totalCpuTimeNanos())
+                .setCpuUsage(usage.cpuUsage())
+                .build();
+    }
+
     private static ThreadState toProto(Thread.State state) {
         if (state == null) {
             return ThreadState.THREAD_STATE_UNSPECIFIED;
@@ -246,6 +768,64 @@ public final class ProfilerReportMapper {
                 .setAverageTps(tps.averageTps())
                 .setMinTps(tps.minTps())
                 .setMaxTps(tps.maxTps());
+        if (tps.tps1m() != null) {
+            builder.setTps1M(toProto(tps.tps1m()));
+        }
+        if (tps.tps5m() != null) {
+            builder.setTps5M(toProto(tps.tps5m()));
+        }
+        if (tps.tps15m() != null) {
+            builder.setTps15M(toProto(tps.tps15m()));
+        }
+        if (tps.tickTime1s() != null) {
+            builder.setTickTime1S(toProto(tps.tickTime1s()));
+        }
+        if (tps.tickTime10s() != null) {
+            builder.setTickTime10S(toProto(tps.tickTime10s()));
+        }
+        if (tps.tickTime1m() != null) {
+            builder.setTickTime1M(toProto(tps.tickTime1m()));
+        }
+        if (tps.tickTime5m() != null) {
+            builder.setTickTime5M(toProto(tps.tickTime5m()));
+        }
+        if (tps.worstWorld() != null) {
+            builder.setWorstWorld(toProto(tps.worstWorld()));
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.WindowStats toProto(WindowStats stats) {
+        return com.nodecraft.hytale.flare.report.WindowStats.newBuilder()
+                .setCount(stats.count())
+                .setMin(stats.min())
+                .setMax(stats.max())
+                .setAverage(stats.average())
+                .build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.WorldTickStats toProto(WorldTpsMetrics world) {
+        com.nodecraft.hytale.flare.report.WorldTickStats.Builder builder =
+                com.nodecraft.hytale.flare.report.WorldTickStats.newBuilder()
+                .setWorldName(nullToEmpty(world.worldName()))
+                .setCurrentTps(world.currentTps())
+                .setAverageTps(world.averageTps())
+                .setMinTps(world.minTps())
+                .setMaxTps(world.maxTps())
+                .setAvgTickNanos(world.avgTickNanos())
+                .setTickStepNanos(world.tickStepNanos());
+        if (world.tickTime1s() != null) {
+            builder.setTickTime1S(toProto(world.tickTime1s()));
+        }
+        if (world.tickTime10s() != null) {
+            builder.setTickTime10S(toProto(world.tickTime10s()));
+        }
+        if (world.tickTime1m() != null) {
+            builder.setTickTime1M(toProto(world.tickTime1m()));
+        }
+        if (world.tickTime5m() != null) {
+            builder.setTickTime5M(toProto(world.tickTime5m()));
+        }
         return builder.build();
     }
 
@@ -263,7 +843,9 @@ public final class ProfilerReportMapper {
                 com.nodecraft.hytale.flare.report.WorldMetrics.newBuilder()
                 .setWorldCount(world.worldCount())
                 .setTotalLoadedChunks(world.totalLoadedChunks())
-                .setTotalEntities(world.totalEntities());
+                .setTotalEntities(world.totalEntities())
+                .setStaleWorldCount(world.staleWorldCount())
+                .setMaxUnresponsiveMillis(world.maxUnresponsiveMillis());
 
         if (world.worlds() != null) {
             for (WorldSnapshot snapshot : world.worlds()) {
@@ -287,10 +869,77 @@ public final class ProfilerReportMapper {
                 .setTotalLoadedChunks(snapshot.totalLoadedChunks())
                 .setEntityCount(snapshot.entityCount())
                 .setArchetypeChunkCount(snapshot.archetypeChunkCount())
-                .setAvgTickNanos(snapshot.avgTickNanos());
+                .setAvgTickNanos(snapshot.avgTickNanos())
+                .setStale(snapshot.stale())
+                .setUnresponsiveMillis(snapshot.unresponsiveMillis());
+        if (snapshot.tps() != null) {
+            builder.setTickStats(toProto(snapshot.tps()));
+        }
+        if (snapshot.chunkRates() != null) {
+            builder.setChunkRates(toProto(snapshot.chunkRates()));
+        }
+        if (snapshot.entityCensus() != null) {
+            builder.setEntityCensus(toProto(snapshot.entityCensus()));
+        }
+        if (snapshot.systemTimings() != null) {
+            builder.setSystemTimings(toProto(snapshot.systemTimings()));
+        }
         return builder.build();
     }
 
+    private static com.nodecraft.hytale.flare.report.SystemTimingMetrics toProto(SystemTimingMetrics timings) {
+        com.nodecraft.hytale.flare.report.SystemTimingMetrics.Builder builder =
+                com.nodecraft.hytale.flare.report.SystemTimingMetrics.newBuilder()
+                .setIntervalNanos(timings.intervalNanos())
+                .setTicks(timings.ticks())
+                .setRegisteredSystems(timings.registeredSystems());
+        if (timings.topSystems() != null) {
+            for (SystemTimingMetrics.SystemTiming system : timings.topSystems()) {
+                builder.addTopSystems(com.nodecraft.hytale.flare.report.SystemTiming.newBuilder()
+                        .setName(nullToEmpty(system.name()))
+                        .setTotalNanos(system.totalNanos())
+                        .setNanosPerTick(system.nanosPerTick())
+                        .setDuration(toProto(system.duration()))
+                        .build());
+            }
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.EntityCensus toProto(EntityCensus census) {
+        com.nodecraft.hytale.flare.report.EntityCensus.Builder builder =
+                com.nodecraft.hytale.flare.report.EntityCensus.newBuilder()
+                .setCompletedAtMillis(census.completedAtMillis())
+                .setScanNanos(census.scanNanos())
+                .setCollectionsSpanned(census.collectionsSpanned())
+                .setEntityCount(census.entityCount())
+                .setArchetypeChunkCount(census.archetypeChunkCount())
+                .setArchetypeCount(census.archetypeCount())
+                .setFragmentationRatio(census.fragmentationRatio());
+        if (census.topArchetypes() != null) {
+            for (EntityCensus.ArchetypeCount archetype : census.topArchetypes()) {
+                builder.addTopArchetypes(com.nodecraft.hytale.flare.report.ArchetypeCount.newBuilder()
+                        .setSignature(nullToEmpty(archetype.signature()))
+                        .setEntityCount(archetype.entityCount())
+                        .setChunkCount(archetype.chunkCount())
+                        .build());
+            }
+        }
+        return builder.build();
+    }
+
+    private static com.nodecraft.hytale.flare.report.ChunkRates toProto(ChunkRates rates) {
+        return com.nodecraft.hytale.flare.report.ChunkRates.newBuilder()
+                .setIntervalNanos(rates.intervalNanos())
+                .setGenerated(rates.generated())
+                .setLoaded(rates.loaded())
+                .setUnloaded(rates.unloaded())
+                .setGeneratedPerSecond(rates.generatedPerSecond())
+                .setLoadedPerSecond(rates.loadedPerSecond())
+                .setUnloadedPerSecond(rates.unloadedPerSecond())
+                .build();
+    }
+
     private static com.nodecraft.hytale.flare.report.NetworkMetrics toProto(NetworkMetrics network) {
         com.nodecraft.hytale.flare.report.NetworkMetrics.Builder builder =
                 com.nodecraft.hytale.flare.report.NetworkMetrics.newBuilder()
@@ -1,16 +1,31 @@
 package com.nodecraft.hytale.flare.profiler;
 
 import com.nodecraft.hytale.flare.config.ProfilerConfig;
+import com.nodecraft.hytale.flare.model.CpuMetrics;
+import com.nodecraft.hytale.flare.model.NetworkMetrics;
 import com.nodecraft.hytale.flare.model.PerformanceSnapshot;
+import com.nodecraft.hytale.flare.monitoring.WorldTickCapture;
+import com.nodecraft.hytale.flare.util.TickSampleRing;
 
 import java.time.Instant;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class ProfilerSession {
+    // Per world; ~4.8 hours at 30 TPS, 8 MB of primitive arrays at most. With rollups, the most recent
+    // ticks and samples are kept instead of the first ones
+    private static final int MAX_TIMELINE_TICKS = 1 << 19;
+    // ~7.3 hours at 20 Hz, 26 MB of primitive arrays at most
+    private static final int MAX_TIMELINE_SAMPLES = 1 << 19;
+
     private final ProfilerData data;
     private final ProfilerConfig config;
     private final AtomicBoolean active;
@@ -19,6 +34,14 @@ public final class ProfilerSession {
     private ScheduledFuture<?> samplingTask;
     private final Runnable samplingCallback;
     private final ScheduledExecutorService profilerExecutor;
+    private final Map<String, TickTimeline> tickTimelines = new ConcurrentHashMap<>();
+    private final SnapshotStore snapshots;
+    private final RollupTimeline rollups;
+    private final double[] collectedValues = new double[SnapshotStore.Column.values().length];
+    private final SampleTimeline sampleTimeline;
+    private final Runnable samplingRun = this::runSample;
+    private long samplingIntervalNanos;
+    private long nextSampleNanos;
 
     public ProfilerSession(
             ProfilerMetadata metadata,
@@ -29,32 +52,61 @@ public final class ProfilerSession {
             ScheduledExecutorService profilerExecutor
     ) {
         this.config = config;
-        this.data = new ProfilerData(metadata, preamble, Instant.now(), config.getSamplingInterval());
+        this.data = new ProfilerData(metadata, preamble, Instant.now(), config.getSnapshotInterval());
         this.active = new AtomicBoolean(true);
         this.maxDurationOverride = maxDurationOverride;
         this.samplingCallback = samplingCallback;
         this.profilerExecutor = profilerExecutor;
+        // With rollups, MaxSnapshots bounds full-resolution retention instead of ending the session
+        this.snapshots = new SnapshotStore(config.isRollupsEnabled() ? config.getMaxSnapshots() : 0);
+        this.rollups = config.isRollupsEnabled() ? new RollupTimeline(config.getSnapshotInterval()) : null;
+        this.sampleTimeline = config.isSubSecondSampling()
+                ? new SampleTimeline(config.getSamplingInterval().toNanos(), MAX_TIMELINE_SAMPLES, rollups != null)
+                : null;
     }
 
-    public void startSampling(java.util.concurrent.ScheduledExecutorService executor) {
+    /**
+     * Starts sampling on the profiler executor. Each run schedules the next one against a fixed
+     * {@link System#nanoTime()} grid rather than after a fixed delay, so the sample rate does not drift.
+     * When a sample overruns one or more intervals the missed ones are skipped instead of run in a burst.
+     */
+    public synchronized void startSampling(java.util.concurrent.ScheduledExecutorService executor) {
         if (samplingTask != null) {
             return;
         }
 
-        long intervalSeconds = config.getSamplingInterval().getSeconds();       
-        samplingTask = profilerExecutor.scheduleAtFixedRate(
-                () -> {
-                    if (isActive()) {
-                        samplingCallback.run();
-                    }
-                },
-                intervalSeconds,
-                intervalSeconds,
-                TimeUnit.SECONDS
-        );
+        samplingIntervalNanos = config.getSamplingInterval().toNanos();
+        nextSampleNanos = System.nanoTime() + samplingIntervalNanos;
+        samplingTask = profilerExecutor.schedule(samplingRun, samplingIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void runSample() {
+        try {
+            if (isActive()) {
+                samplingCallback.run();
+            }
+        } finally {
+            scheduleNextSample();
+        }
+    }
+
+    private synchronized void scheduleNextSample() {
+        if (samplingTask == null || !active.get()) {
+            return;
+        }
+        long now = System.nanoTime();
+        nextSampleNanos += samplingIntervalNanos;
+        if (now - nextSampleNanos >= 0L) {
+            long missed = (now - nextSampleNanos) / samplingIntervalNanos + 1L;
+            nextSampleNanos += missed * samplingIntervalNanos;
+            if (sampleTimeline != null) {
+                sampleTimeline.addMissedSamples(missed);
+            }
+        }
+        samplingTask = profilerExecutor.schedule(samplingRun, nextSampleNanos - now, TimeUnit.NANOSECONDS);
     }
 
-    public void stop() {
+    public synchronized void stop() {
         active.set(false);
         if (samplingTask != null) {
             samplingTask.cancel(false);
@@ -79,12 +131,55 @@ public final class ProfilerSession {
     }
 
     public boolean isMaxSnapshotsReached() {
-        return data.getSnapshotCount() >= config.getMaxSnapshots();
+        return rollups == null && snapshots.size() >= config.getMaxSnapshots();
     }
 
     public void addSnapshot(PerformanceSnapshot snapshot) {
         if (isActive()) {
-            data.addSnapshot(snapshot);
+            snapshots.add(snapshot);
+            if (rollups != null && snapshot.timestamp() != null) {
+                SnapshotStore.getCollectedValues(snapshot, collectedValues);
+                rollups.add(snapshot.timestamp().toEpochMilli(), collectedValues);
+            }
+        }
+    }
+
+    /**
+     * Returns true when the cheap metrics of every sample go to the {@link SampleTimeline} and full
+     * snapshots are taken less often than samples.
+     */
+    public boolean hasSampleTimeline() {
+        return sampleTimeline != null;
+    }
+
+    public void addSample(long timestampNanos, double tps, CpuMetrics cpu, NetworkMetrics network) {
+        if (sampleTimeline != null && isActive()) {
+            sampleTimeline.append(timestampNanos, tps, cpu, network);
+        }
+    }
+
+    /**
+     * Starts the per-world tick timelines at the current end of each capture ring.
+     */
+    public void startTickTimelines(WorldTickCapture tickCapture) {
+        for (String worldName : tickCapture.getWorldNames()) {
+            TickSampleRing ring = tickCapture.getSamples(worldName);
+            if (ring != null) {
+                tickTimelines.put(worldName, new TickTimeline(worldName, MAX_TIMELINE_TICKS, rollups != null, ring.nextSequence()));
+            }
+        }
+    }
+
+    /**
+     * Appends every tick captured since the previous call to the session timelines.
+     */
+    public void captureTicks(WorldTickCapture tickCapture) {
+        for (String worldName : tickCapture.getWorldNames()) {
+            TickSampleRing ring = tickCapture.getSamples(worldName);
+            if (ring != null) {
+                tickTimelines.computeIfAbsent(worldName, name -> new TickTimeline(name, MAX_TIMELINE_TICKS, rollups != null, 0L))
+                        .drain(ring);
+            }
         }
     }
 
@@ -94,7 +189,13 @@ public final class ProfilerSession {
 
     public ProfilerData getData() {
         Instant endTime = isActive() ? null : Instant.now();
-        ProfilerData snapshot = data.withEndTime(endTime);
+        List<TickTimeline> timelines = new ArrayList<>(tickTimelines.values());
+        timelines.sort(Comparator.comparing(TickTimeline::getWorldName));
+        ProfilerData snapshot = data.withEndTime(endTime)
+                .withSnapshots(snapshots.view())
+                .withTickTimelines(timelines)
+                .withSampleTimeline(sampleTimeline)
+                .withRollups(rollups);
         return postamble != null ? snapshot.withPostamble(postamble) : snapshot;
     }
 
@@ -103,6 +204,20 @@ public final class ProfilerSession {
     }
 
     public int getSnapshotCount() {
-        return data.getSnapshotCount();
+        return snapshots.size();
+    }
+
+    /**
+     * The rollups of a session with {@code RollupsEnabled}, otherwise null.
+     */
+    public RollupTimeline getRollups() {
+        return rollups;
+    }
+
+    /**
+     * The snapshots collected so far, without building the full session data.
+     */
+    public SnapshotStore.View getSnapshots() {
+        return snapshots.view();
     }
 }
@@ -0,0 +1,336 @@
+package com.nodecraft.hytale.flare.profiler;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Multi-resolution rollups of the {@link SnapshotStore} columns for sessions that outlive full-resolution
+ * retention: 10 second buckets for the last day and 1 minute buckets for the last 7 days.
+ *
+ * Every snapshot is added to the open bucket of each tier on the profiler thread, so rollup is incremental
+ * and never re-reads old snapshots. Each tier is a ring of primitive columns that grows up to a fixed
+ * number of buckets and then overwrites its oldest, so memory is bounded by the tier sizes (about 28 MB
+ * once both tiers are full at a 1 second snapshot interval) however long the session runs.
+ *
+ * A bucket keeps count, min, max, sum and last per metric, plus a small relative-error sketch: values are
+ * binned by {@code ceil(log_gamma(value))} and reported at their bin's midpoint, which is within
+ * {@code (gamma - 1) / (gamma + 1)}, about 2.4%, of every value in the bin. A tier's sketches have one bin
+ * per snapshot in a bucket, up to {@link #MAX_SKETCH_BINS}, so 10 second buckets are never collapsed.
+ * Past that, 1 minute buckets with more distinct bins merge their two closest bins into the heavier one,
+ * and the values of the lighter bin are then off by the gap between the two keys. Sketches of any
+ * buckets can be merged for percentiles over longer ranges.
+ */
+public final class RollupTimeline {
+    static final int MAX_SKETCH_BINS = 16;
+    static final double SKETCH_GAMMA = 1.05; // ~2.4% relative error until bins are merged
+    static final int ZERO_KEY = Integer.MIN_VALUE;
+    private static final double LOG_GAMMA = Math.log(SKETCH_GAMMA);
+    private static final int COLUMNS = SnapshotStore.Column.values().length;
+
+    private final Tier[] tiers;
+
+    /**
+     * @param snapshotInterval interval between added snapshots, which sizes the sketches
+     */
+    public RollupTimeline(Duration snapshotInterval) {
+        long intervalMillis = Math.max(1L, snapshotInterval.toMillis());
+        tiers = new Tier[] {
+                new Tier(10_000L, 8640, intervalMillis),  // 1 day
+                new Tier(60_000L, 10080, intervalMillis)  // 7 days
+        };
+    }
+
+    public synchronized void add(long timestampMillis, double[] values) {
+        for (Tier tier : tiers) {
+            tier.add(timestampMillis, values);
+        }
+    }
+
+    /**
+     * Copies of every tier, finest first, with buckets in chronological order.
+     */
+    public synchronized List<Tier> getTiers() {
+        Tier[] copies = new Tier[tiers.length];
+        for (int i = 0; i < tiers.length; i++) {
+            copies[i] = tiers[i].copy();
+        }
+        return List.of(copies);
+    }
+
+    static int sketchKey(double value) {
+        return value <= 0.0 ? ZERO_KEY : (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    static double sketchValue(int key) {
+        return key == ZERO_KEY ? 0.0 : 2.0 * Math.pow(SKETCH_GAMMA, key) / (SKETCH_GAMMA + 1.0);
+    }
+
+    /**
+     * One resolution of the rollup. The live tiers are rings; the copies handed out are unrolled.
+     */
+    public static final class Tier {
+        private final long bucketMillis;
+        private final int maxBuckets;
+        private final int sketchBins;
+        private long[] starts;
+        private long[] counts;
+        private double[] min;
+        private double[] max;
+        private double[] sum;
+        private double[] last;
+        // Sketch of bucket b, column c uses bins [(b * COLUMNS + c) * sketchBins, + sketchSizes[b * COLUMNS + c])
+        private int[] sketchKeys;
+        private int[] sketchCounts;
+        private byte[] sketchSizes;
+        private int head;
+        private int size;
+        private long evictedBuckets;
+
+        private Tier(long bucketMillis, int maxBuckets, long snapshotIntervalMillis) {
+            // A late snapshot can put one more than bucketMillis / interval snapshots into a bucket
+            this(bucketMillis, maxBuckets,
+                    (int) Math.min(MAX_SKETCH_BINS, bucketMillis / snapshotIntervalMillis + 1),
+                    Math.min(64, maxBuckets));
+        }
+
+        private Tier(long bucketMillis, int maxBuckets, int sketchBins, int capacity) {
+            this.bucketMillis = bucketMillis;
+            this.maxBuckets = maxBuckets;
+            this.sketchBins = sketchBins;
+            this.starts = new long[capacity];
+            this.counts = new long[capacity * COLUMNS];
+            this.min = new double[capacity * COLUMNS];
+            this.max = new double[capacity * COLUMNS];
+            this.sum = new double[capacity * COLUMNS];
+            this.last = new double[capacity * COLUMNS];
+            this.sketchKeys = new int[capacity * COLUMNS * sketchBins];
+            this.sketchCounts = new int[capacity * COLUMNS * sketchBins];
+            this.sketchSizes = new byte[capacity * COLUMNS];
+        }
+
+        private void add(long timestampMillis, double[] values) {
+            long start = timestampMillis - Math.floorMod(timestampMillis, bucketMillis);
+            if (size == 0 || start > starts[slot(size - 1)]) {
+                openBucket(start);
+            }
+            // A clock step backwards lands in the open bucket rather than reordering history
+            int base = slot(size - 1) * COLUMNS;
+            for (int column = 0; column < COLUMNS; column++) {
+                double value = values[column];
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+                int index = base + column;
+                if (counts[index] == 0L) {
+                    min[index] = value;
+                    max[index] = value;
+                } else {
+                    min[index] = Math.min(min[index], value);
+                    max[index] = Math.max(max[index], value);
+                }
+                sum[index] += value;
+                last[index] = value;
+                counts[index]++;
+                addToSketch(index, sketchKey(value));
+            }
+        }
+
+        private void openBucket(long start) {
+            if (size == starts.length && size < maxBuckets) {
+                // Rings only wrap at maxBuckets, so head is still 0 while growing
+                grow(Math.min(maxBuckets, starts.length * 2));
+            }
+            int slot;
+            if (size == maxBuckets) {
+                slot = head;
+                head = (head + 1) % starts.length;
+                evictedBuckets++;
+            } else {
+                slot = size++;
+            }
+            starts[slot] = start;
+            int base = slot * COLUMNS;
+            Arrays.fill(counts, base, base + COLUMNS, 0L);
+            Arrays.fill(sum, base, base + COLUMNS, 0.0);
+            Arrays.fill(sketchSizes, base, base + COLUMNS, (byte) 0);
+        }
+
+        private void grow(int capacity) {
+            starts = Arrays.copyOf(starts, capacity);
+            counts = Arrays.copyOf(counts, capacity * COLUMNS);
+            min = Arrays.copyOf(min, capacity * COLUMNS);
+            max = Arrays.copyOf(max, capacity * COLUMNS);
+            sum = Arrays.copyOf(sum, capacity * COLUMNS);
+            last = Arrays.copyOf(last, capacity * COLUMNS);
+            sketchKeys = Arrays.copyOf(sketchKeys, capacity * COLUMNS * sketchBins);
+            sketchCounts = Arrays.copyOf(sketchCounts, capacity * COLUMNS * sketchBins);
+            sketchSizes = Arrays.copyOf(sketchSizes, capacity * COLUMNS);
+        }
+
+        private void addToSketch(int index, int key) {
+            int offset = index * sketchBins;
+            int binCount = sketchSizes[index];
+            int position = 0;
+            while (position < binCount && sketchKeys[offset + position] < key) {
+                position++;
+            }
+            if (position < binCount && sketchKeys[offset + position] == key) {
+                sketchCounts[offset + position]++;
+                return;
+            }
+            if (binCount == sketchBins) {
+                collapseClosestBins(offset, binCount);
+                sketchSizes[index] = (byte) (binCount - 1);
+                addToSketch(index, key);
+                return;
+            }
+            System.arraycopy(sketchKeys, offset + position, sketchKeys, offset + position + 1, binCount - position);
+            System.arraycopy(sketchCounts, offset + position, sketchCounts, offset + position + 1, binCount - position);
+            sketchKeys[offset + position] = key;
+            sketchCounts[offset + position] = 1;
+            sketchSizes[index] = (byte) (binCount + 1);
+        }
+
+        /**
+         * Merges the two adjacent bins with the closest keys into the heavier one.
+         */
+        private void collapseClosestBins(int offset, int binCount) {
+            int closest = 0;
+            long closestGap = Long.MAX_VALUE;
+            for (int i = 0; i + 1 < binCount; i++) {
+                long gap = (long) sketchKeys[offset + i + 1] - sketchKeys[offset + i];
+                if (gap < closestGap) {
+                    closestGap = gap;
+                    closest = i;
+                }
+            }
+            int lower = offset + closest;
+            if (sketchCounts[lower] > sketchCounts[lower + 1]) {
+                sketchKeys[lower + 1] = sketchKeys[lower];
+            }
+            sketchCounts[lower + 1] += sketchCounts[lower];
+            System.arraycopy(sketchKeys, lower + 1, sketchKeys, lower, binCount - closest - 1);
+            System.arraycopy(sketchCounts, lower + 1, sketchCounts, lower, binCount - closest - 1);
+        }
+
+        private Tier copy() {
+            Tier copy = new Tier(bucketMillis, maxBuckets, sketchBins, Math.max(size, 1));
+            for (int i = 0; i < size; i++) {
+                int from = slot(i);
+                copy.starts[i] = starts[from];
+                System.arraycopy(counts, from * COLUMNS, copy.counts, i * COLUMNS, COLUMNS);
+                System.arraycopy(min, from * COLUMNS, copy.min, i * COLUMNS, COLUMNS);
+                System.arraycopy(max, from * COLUMNS, copy.max, i * COLUMNS, COLUMNS);
+                System.arraycopy(sum, from * COLUMNS, copy.sum, i * COLUMNS, COLUMNS);
+                System.arraycopy(last, from * COLUMNS, copy.last, i * COLUMNS, COLUMNS);
+                System.arraycopy(sketchSizes, from * COLUMNS, copy.sketchSizes, i * COLUMNS, COLUMNS);
+                int bins = COLUMNS * sketchBins;
+                System.arraycopy(sketchKeys, from * bins, copy.sketchKeys, i * bins, bins);
+                System.arraycopy(sketchCounts, from * bins, copy.sketchCounts, i * bins, bins);
+            }
+            copy.size = size;
+            copy.evictedBuckets = evictedBuckets;
+            return copy;
+        }
+
+        private int slot(int bucket) {
+            return (head + bucket) % starts.length;
+        }
+
+        private int index(int bucket, SnapshotStore.Column column) {
+            if (bucket < 0 || bucket >= size) {
+                throw new IndexOutOfBoundsException("Bucket " + bucket + " out of " + size);
+            }
+            return slot(bucket) * COLUMNS + column.ordinal();
+        }
+
+        public long getBucketMillis() {
+            return bucketMillis;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Buckets overwritten after the tier filled up.
+         */
+        public long getEvictedBuckets() {
+            return evictedBuckets;
+        }
+
+        public long getBucketStartMillis(int bucket) {
+            return starts[slot(bucket)];
+        }
+
+        public long getCount(int bucket, SnapshotStore.Column column) {
+            return counts[index(bucket, column)];
+        }
+
+        public double getMin(int bucket, SnapshotStore.Column column) {
+            int index = index(bucket, column);
+            return counts[index] > 0L ? min[index] : Double.NaN;
+        }
+
+        public double getMax(int bucket, SnapshotStore.Column column) {
+            int index = index(bucket, column);
+            return counts[index] > 0L ? max[index] : Double.NaN;
+        }
+
+        public double getAverage(int bucket, SnapshotStore.Column column) {
+            int index = index(bucket, column);
+            return counts[index] > 0L ? sum[index] / counts[index] : Double.NaN;
+        }
+
+        public double getLast(int bucket, SnapshotStore.Column column) {
+            int index = index(bucket, column);
+            return counts[index] > 0L ? last[index] : Double.NaN;
+        }
+
+        /**
+         * Sketch keys of one bucket in ascending order; see {@link #SKETCH_GAMMA} and {@link #ZERO_KEY}.
+         */
+        public int[] getSketchKeys(int bucket, SnapshotStore.Column column) {
+            int index = index(bucket, column);
+            return Arrays.copyOfRange(sketchKeys, index * sketchBins, index * sketchBins + sketchSizes[index]);
+        }
+
+        public int[] getSketchCounts(int bucket, SnapshotStore.Column column) {
+            int index = index(bucket, column);
+            return Arrays.copyOfRange(sketchCounts, index * sketchBins, index * sketchBins + sketchSizes[index]);
+        }
+
+        /**
+         * Percentile (0-100) of a metric over buckets {@code [from, to)}, from their merged sketches.
+         * Returns NaN when the metric has no values in that range.
+         */
+        public double getPercentile(SnapshotStore.Column column, int from, int to, double percentile) {
+            Map<Integer, Long> merged = new TreeMap<>();
+            long total = 0L;
+            for (int bucket = Math.max(0, from); bucket < Math.min(size, to); bucket++) {
+                int index = index(bucket, column);
+                int offset = index * sketchBins;
+                for (int bin = 0; bin < sketchSizes[index]; bin++) {
+                    merged.merge(sketchKeys[offset + bin], (long) sketchCounts[offset + bin], Long::sum);
+                    total += sketchCounts[offset + bin];
+                }
+            }
+            if (total == 0L) {
+                return Double.NaN;
+            }
+            double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+            long target = Math.max(1L, (long) Math.ceil(clamped / 100.0 * total));
+            long seen = 0L;
+            for (Map.Entry<Integer, Long> bin : merged.entrySet()) {
+                seen += bin.getValue();
+                if (seen >= target) {
+                    return sketchValue(bin.getKey());
+                }
+            }
+            return Double.NaN;
+        }
+    }
+}
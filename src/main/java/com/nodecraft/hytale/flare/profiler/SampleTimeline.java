@@ -0,0 +1,167 @@
+package com.nodecraft.hytale.flare.profiler;
+
+import com.nodecraft.hytale.flare.model.CpuMetrics;
+import com.nodecraft.hytale.flare.model.NetworkMetrics;
+
+import java.util.Arrays;
+
+/**
+ * The cheap metrics of every sample of a sub-second session, kept in growable primitive arrays so a
+ * 20 Hz session costs about 52 bytes per sample instead of a full snapshot each.
+ *
+ * Counters are stored as totals and written to reports as deltas. Missing values are NaN for loads and
+ * -1 for counters.
+ *
+ * Past {@code maxSamples} new samples are dropped, or with {@code evictOldest} the arrays become a ring
+ * that keeps the most recent {@code maxSamples} samples. Getters always return samples in chronological
+ * order.
+ */
+public final class SampleTimeline {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    static final int SENT_BYTES = 0;
+    static final int RECEIVED_BYTES = 1;
+    static final int SENT_PACKETS = 2;
+    static final int RECEIVED_PACKETS = 3;
+    private static final int COUNTER_COLUMNS = 4;
+
+    private final long intervalNanos;
+    private final int maxSamples;
+    private final boolean evictOldest;
+    // Converts System.nanoTime() based sample timestamps to epoch nanos
+    private final long epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+    private long[] timestamps;
+    private float[] tps;
+    private float[] processCpuLoad;
+    private float[] systemCpuLoad;
+    private final long[][] counters;
+    private int head;
+    private int size;
+    private long droppedSamples;
+    private long evictedSamples;
+    private long missedSamples;
+
+    public SampleTimeline(long intervalNanos, int maxSamples, boolean evictOldest) {
+        this.intervalNanos = intervalNanos;
+        this.maxSamples = maxSamples;
+        this.evictOldest = evictOldest;
+        int capacity = Math.min(INITIAL_CAPACITY, maxSamples);
+        this.timestamps = new long[capacity];
+        this.tps = new float[capacity];
+        this.processCpuLoad = new float[capacity];
+        this.systemCpuLoad = new float[capacity];
+        this.counters = new long[COUNTER_COLUMNS][capacity];
+    }
+
+    public synchronized void append(long timestampNanos, double currentTps, CpuMetrics cpu, NetworkMetrics network) {
+        int slot;
+        if (size < maxSamples) {
+            ensureCapacity(size + 1);
+            slot = size++;
+        } else if (evictOldest) {
+            // Arrays are at maxSamples by now, and the ring only wraps once full
+            slot = head;
+            head = (head + 1) % timestamps.length;
+            evictedSamples++;
+        } else {
+            droppedSamples++;
+            return;
+        }
+        timestamps[slot] = timestampNanos;
+        tps[slot] = (float) currentTps;
+        boolean cpuAvailable = cpu != null && cpu.cpuMonitoringAvailable();
+        processCpuLoad[slot] = cpuAvailable && cpu.processCpuLoad() >= 0.0 ? (float) cpu.processCpuLoad() : Float.NaN;
+        systemCpuLoad[slot] = cpuAvailable && cpu.systemCpuLoad() >= 0.0 ? (float) cpu.systemCpuLoad() : Float.NaN;
+        counters[SENT_BYTES][slot] = network != null ? network.totalSentCompressedBytes() : -1L;
+        counters[RECEIVED_BYTES][slot] = network != null ? network.totalReceivedCompressedBytes() : -1L;
+        counters[SENT_PACKETS][slot] = network != null ? network.totalSentPackets() : -1L;
+        counters[RECEIVED_PACKETS][slot] = network != null ? network.totalReceivedPackets() : -1L;
+    }
+
+    /**
+     * Counts samples skipped because a previous sample overran its interval.
+     */
+    public synchronized void addMissedSamples(long count) {
+        missedSamples += count;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= timestamps.length) {
+            return;
+        }
+        int newCapacity = Math.max(required, Math.min(maxSamples, timestamps.length * 2));
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        tps = Arrays.copyOf(tps, newCapacity);
+        processCpuLoad = Arrays.copyOf(processCpuLoad, newCapacity);
+        systemCpuLoad = Arrays.copyOf(systemCpuLoad, newCapacity);
+        for (int column = 0; column < COUNTER_COLUMNS; column++) {
+            counters[column] = Arrays.copyOf(counters[column], newCapacity);
+        }
+    }
+
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    public long getEpochOffsetNanos() {
+        return epochOffsetNanos;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getDroppedSamples() {
+        return droppedSamples;
+    }
+
+    public synchronized long getMissedSamples() {
+        return missedSamples;
+    }
+
+    /**
+     * Oldest samples overwritten by newer ones with {@code evictOldest}.
+     */
+    public synchronized long getEvictedSamples() {
+        return evictedSamples;
+    }
+
+    public synchronized long[] getTimestamps() {
+        return unroll(timestamps);
+    }
+
+    public synchronized float[] getTps() {
+        return unroll(tps);
+    }
+
+    public synchronized float[] getProcessCpuLoad() {
+        return unroll(processCpuLoad);
+    }
+
+    public synchronized float[] getSystemCpuLoad() {
+        return unroll(systemCpuLoad);
+    }
+
+    /**
+     * Totals of one counter column, e.g. {@link #SENT_BYTES}.
+     */
+    synchronized long[] getCounter(int column) {
+        return unroll(counters[column]);
+    }
+
+    private long[] unroll(long[] column) {
+        long[] copy = new long[size];
+        int tail = Math.min(size, column.length - head);
+        System.arraycopy(column, head, copy, 0, tail);
+        System.arraycopy(column, 0, copy, tail, size - tail);
+        return copy;
+    }
+
+    private float[] unroll(float[] column) {
+        float[] copy = new float[size];
+        int tail = Math.min(size, column.length - head);
+        System.arraycopy(column, head, copy, 0, tail);
+        System.arraycopy(column, 0, copy, tail, size - tail);
+        return copy;
+    }
+}
@@ -0,0 +1,338 @@
+package com.nodecraft.hytale.flare.profiler;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.nodecraft.hytale.flare.model.PerformanceSnapshot;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The snapshots of a profiling session, kept in primitive arrays instead of record graphs.
+ *
+ * Each snapshot is encoded to its report message once, when it is added, and appended to a single byte
+ * arena; the records are garbage right after. The headline metrics of every snapshot are also kept in
+ * {@code double} columns (NaN when missing), so commands can read session trends without decoding.
+ * Snapshots are sparse (see {@link PerformanceSnapshot#isUnchanged(int)}); the columns carry unchanged
+ * values forward, and {@link View#getResolvedSnapshot(int)} does the same for whole messages.
+ *
+ * The store is append-only, so a {@link View} shares the arrays instead of copying them: values below the
+ * view's size are never written again, and a resize copies into new arrays. With a retention limit the
+ * oldest snapshots are evicted in batches of a quarter of the limit, also into new arrays, so memory stays
+ * below 1.25 times the limit and eviction costs one copy per batch.
+ */
+public final class SnapshotStore {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int INITIAL_ARENA_BYTES = 256 * 1024;
+
+    public enum Column {
+        TPS(PerformanceSnapshot.TPS, snapshot -> snapshot.tps() != null
+                ? snapshot.tps().currentTps()
+                : Double.NaN),
+        TICK_P99_MILLIS(PerformanceSnapshot.TPS, snapshot -> snapshot.tps() != null
+                && snapshot.tps().tickTime1s().count() > 0
+                ? snapshot.tps().tickTime1s().p99() / 1_000_000.0
+                : Double.NaN),
+        HEAP_USED_BYTES(PerformanceSnapshot.HEAP, snapshot -> snapshot.heap() != null
+                ? snapshot.heap().used()
+                : Double.NaN),
+        PROCESS_CPU_LOAD(PerformanceSnapshot.CPU, snapshot -> snapshot.cpu() != null
+                && snapshot.cpu().processCpuLoad() >= 0.0
+                ? snapshot.cpu().processCpuLoad()
+                : Double.NaN),
+        SYSTEM_CPU_LOAD(PerformanceSnapshot.CPU, snapshot -> snapshot.cpu() != null
+                && snapshot.cpu().systemCpuLoad() >= 0.0
+                ? snapshot.cpu().systemCpuLoad()
+                : Double.NaN),
+        GC_TIME_MILLIS(PerformanceSnapshot.GC, snapshot -> snapshot.gc() != null
+                ? snapshot.gc().totalCollectionTime()
+                : Double.NaN),
+        THREADS(PerformanceSnapshot.THREADS, snapshot -> snapshot.threads() != null
+                ? snapshot.threads().totalThreads()
+                : Double.NaN),
+        ALLOCATION_BYTES_PER_SECOND(PerformanceSnapshot.ALLOCATION, snapshot -> snapshot.allocation() != null
+                ? snapshot.allocation().processBytesPerSecond()
+                : Double.NaN),
+        NETWORK_SENT_BYTES(PerformanceSnapshot.NETWORK, snapshot -> snapshot.network() != null
+                ? snapshot.network().totalSentCompressedBytes()
+                : Double.NaN),
+        NETWORK_RECEIVED_BYTES(PerformanceSnapshot.NETWORK, snapshot -> snapshot.network() != null
+                ? snapshot.network().totalReceivedCompressedBytes()
+                : Double.NaN);
+
+        private final int field;
+        private final ToDoubleFunction<PerformanceSnapshot> extractor;
+
+        Column(int field, ToDoubleFunction<PerformanceSnapshot> extractor) {
+            this.field = field;
+            this.extractor = extractor;
+        }
+    }
+
+    private static final Column[] COLUMNS = Column.values();
+
+    private long[] timestampsMillis = new long[INITIAL_CAPACITY];
+    private final double[][] columns = new double[COLUMNS.length][INITIAL_CAPACITY];
+    // Snapshot i is encoded at arena[ends[i - 1], ends[i])
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private byte[] arena = new byte[INITIAL_ARENA_BYTES];
+    private final int maxRetained;
+    private int size;
+    private long evicted;
+
+    /**
+     * @param maxRetained number of most recent snapshots to keep, or 0 to keep every snapshot
+     */
+    public SnapshotStore(int maxRetained) {
+        this.maxRetained = maxRetained;
+    }
+
+    public synchronized void add(PerformanceSnapshot snapshot) {
+        byte[] encoded = ProfilerReportMapper.toProto(snapshot).toByteArray();
+        int start = size > 0 ? ends[size - 1] : 0;
+        ensureCapacity(size + 1, start + encoded.length);
+
+        System.arraycopy(encoded, 0, arena, start, encoded.length);
+        ends[size] = start + encoded.length;
+        timestampsMillis[size] = snapshot.timestamp() != null ? snapshot.timestamp().toEpochMilli() : 0L;
+        for (int column = 0; column < COLUMNS.length; column++) {
+            columns[column][size] = size > 0 && snapshot.isUnchanged(COLUMNS[column].field)
+                    ? columns[column][size - 1]
+                    : COLUMNS[column].extractor.applyAsDouble(snapshot);
+        }
+        size++;
+
+        if (maxRetained > 0 && size >= maxRetained + Math.max(1, maxRetained / 4)) {
+            evictOldest(size - maxRetained);
+        }
+    }
+
+    /**
+     * Copies the column values collected by {@code snapshot} into {@code values}, indexed by
+     * {@link Column#ordinal()}. Columns of components the snapshot left unchanged are NaN rather than
+     * carried forward, so each collected value is counted once.
+     */
+    static void getCollectedValues(PerformanceSnapshot snapshot, double[] values) {
+        for (int column = 0; column < COLUMNS.length; column++) {
+            values[column] = COLUMNS[column].extractor.applyAsDouble(snapshot);
+        }
+    }
+
+    private void evictOldest(int count) {
+        // The new oldest snapshot can't refer back to evicted ones, so it is stored resolved
+        byte[] first = view().getResolvedSnapshot(count).toByteArray();
+        int remaining = size - count;
+        int capacity = ends.length;
+        int base = ends[count];
+        int bytes = ends[size - 1] - base;
+
+        long[] newTimestamps = new long[capacity];
+        System.arraycopy(timestampsMillis, count, newTimestamps, 0, remaining);
+        timestampsMillis = newTimestamps;
+        for (int column = 0; column < COLUMNS.length; column++) {
+            double[] values = new double[capacity];
+            System.arraycopy(columns[column], count, values, 0, remaining);
+            columns[column] = values;
+        }
+        int[] newEnds = new int[capacity];
+        newEnds[0] = first.length;
+        for (int i = 1; i < remaining; i++) {
+            newEnds[i] = ends[count + i] - base + first.length;
+        }
+        ends = newEnds;
+        byte[] newArena = new byte[Math.max(arena.length, first.length + bytes)];
+        System.arraycopy(first, 0, newArena, 0, first.length);
+        System.arraycopy(arena, base, newArena, first.length, bytes);
+        arena = newArena;
+
+        size = remaining;
+        evicted += count;
+    }
+
+    private void ensureCapacity(int requiredSnapshots, int requiredBytes) {
+        if (requiredSnapshots > ends.length) {
+            int newCapacity = Math.max(requiredSnapshots, ends.length * 2);
+            timestampsMillis = Arrays.copyOf(timestampsMillis, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+            for (int column = 0; column < COLUMNS.length; column++) {
+                columns[column] = Arrays.copyOf(columns[column], newCapacity);
+            }
+        }
+        if (requiredBytes > arena.length) {
+            // Int offsets cap the arena at 2 GB, far beyond MaxSnapshots of any realistic session
+            long grown = Math.max(requiredBytes, (long) arena.length * 2);
+            arena = Arrays.copyOf(arena, (int) Math.min(grown, Integer.MAX_VALUE - 8));
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized View view() {
+        return new View(size, evicted, timestampsMillis, columns.clone(), ends, arena);
+    }
+
+    /**
+     * A fixed-size, read-only view of the store.
+     */
+    public static final class View {
+        public static final View EMPTY =
+                new View(0, 0L, new long[0], new double[COLUMNS.length][0], new int[0], new byte[0]);
+
+        private final int size;
+        private final long evicted;
+        private final long[] timestampsMillis;
+        private final double[][] columns;
+        private final int[] ends;
+        private final byte[] arena;
+
+        private View(int size, long evicted, long[] timestampsMillis, double[][] columns, int[] ends, byte[] arena) {
+            this.size = size;
+            this.evicted = evicted;
+            this.timestampsMillis = timestampsMillis;
+            this.columns = columns;
+            this.ends = ends;
+            this.arena = arena;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Number of older snapshots evicted by the retention limit; index 0 of this view is snapshot
+         * {@code getEvictedSnapshots()} of the session.
+         */
+        public long getEvictedSnapshots() {
+            return evicted;
+        }
+
+        public long getTimestampMillis(int index) {
+            return timestampsMillis[checkIndex(index)];
+        }
+
+        public double get(Column column, int index) {
+            return columns[column.ordinal()][checkIndex(index)];
+        }
+
+        public double[] getColumn(Column column) {
+            return Arrays.copyOf(columns[column.ordinal()], size);
+        }
+
+        /**
+         * Smallest value of a column, ignoring missing values; NaN when every value is missing.
+         */
+        public double min(Column column) {
+            double[] values = columns[column.ordinal()];
+            double min = Double.NaN;
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(values[i]) && (Double.isNaN(min) || values[i] < min)) {
+                    min = values[i];
+                }
+            }
+            return min;
+        }
+
+        public double max(Column column) {
+            double[] values = columns[column.ordinal()];
+            double max = Double.NaN;
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(values[i]) && (Double.isNaN(max) || values[i] > max)) {
+                    max = values[i];
+                }
+            }
+            return max;
+        }
+
+        public double average(Column column) {
+            double[] values = columns[column.ordinal()];
+            double sum = 0.0;
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(values[i])) {
+                    sum += values[i];
+                    count++;
+                }
+            }
+            return count > 0 ? sum / count : Double.NaN;
+        }
+
+        /**
+         * Bytes held by the encoded snapshots.
+         */
+        public long getEncodedBytes() {
+            return size > 0 ? ends[size - 1] : 0L;
+        }
+
+        /**
+         * Decodes one snapshot back to its report message, as stored: unchanged fields are left out.
+         */
+        public com.nodecraft.hytale.flare.report.PerformanceSnapshot getSnapshot(int index) {
+            checkIndex(index);
+            int start = index > 0 ? ends[index - 1] : 0;
+            try {
+                return com.nodecraft.hytale.flare.report.PerformanceSnapshot.parseFrom(
+                        ByteBuffer.wrap(arena, start, ends[index] - start));
+            } catch (InvalidProtocolBufferException e) {
+                throw new IllegalStateException("Corrupt snapshot " + index + " in session store", e);
+            }
+        }
+
+        /**
+         * Decodes one snapshot and fills in each unchanged field from the latest earlier snapshot that has it.
+         */
+        public com.nodecraft.hytale.flare.report.PerformanceSnapshot getResolvedSnapshot(int index) {
+            com.nodecraft.hytale.flare.report.PerformanceSnapshot snapshot = getSnapshot(index);
+            long unchanged = snapshot.getUnchangedFields();
+            if (unchanged == 0L) {
+                return snapshot;
+            }
+
+            com.nodecraft.hytale.flare.report.PerformanceSnapshot.Builder builder = snapshot.toBuilder()
+                    .setUnchangedFields(0L);
+            for (int previous = index - 1; previous >= 0 && unchanged != 0L; previous--) {
+                com.nodecraft.hytale.flare.report.PerformanceSnapshot source = getSnapshot(previous);
+                // Fields the earlier snapshot also skipped stay pending for the one before it
+                long available = unchanged & ~source.getUnchangedFields();
+                for (long bits = available; bits != 0L; bits &= bits - 1) {
+                    copyField(source, builder, Long.numberOfTrailingZeros(bits));
+                }
+                unchanged &= ~available;
+            }
+            return builder.build();
+        }
+
+        private static void copyField(com.nodecraft.hytale.flare.report.PerformanceSnapshot source,
+                                      com.nodecraft.hytale.flare.report.PerformanceSnapshot.Builder target,
+                                      int field) {
+            switch (field) {
+                case PerformanceSnapshot.HEAP -> target.setHeap(source.getHeap());
+                case PerformanceSnapshot.GC -> target.setGc(source.getGc());
+                case PerformanceSnapshot.THREADS -> target.setThreads(source.getThreads());
+                case PerformanceSnapshot.TPS -> target.setTps(source.getTps());
+                case PerformanceSnapshot.CPU -> target.setCpu(source.getCpu());
+                case PerformanceSnapshot.WORLD -> target.setWorld(source.getWorld());
+                case PerformanceSnapshot.NETWORK -> target.setNetwork(source.getNetwork());
+                case PerformanceSnapshot.MEMORY_POOLS -> target.setMemoryPools(source.getMemoryPools());
+                case PerformanceSnapshot.ALLOCATION -> target.setAllocation(source.getAllocation());
+                case PerformanceSnapshot.OFF_HEAP -> target.setOffHeap(source.getOffHeap());
+                case PerformanceSnapshot.CONTAINER -> target.setContainer(source.getContainer());
+                case PerformanceSnapshot.QUEUE_LATENCY -> target.setQueueLatency(source.getQueueLatency());
+                case PerformanceSnapshot.JIT -> target.setJit(source.getJit());
+                case PerformanceSnapshot.SAFEPOINTS -> target.setSafepoints(source.getSafepoints());
+                case PerformanceSnapshot.IO -> target.setIo(source.getIo());
+                default -> {
+                    // Not a monitor field; nothing to carry forward
+                }
+            }
+        }
+
+        private int checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Snapshot " + index + " out of " + size);
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.nodecraft.hytale.flare.profiler;
+
+import com.nodecraft.hytale.flare.util.TickSampleRing;
+
+import java.util.Arrays;
+
+/**
+ * Every captured tick of one world during a profiling session, kept in growable primitive arrays.
+ *
+ * Past {@code maxTicks} new ticks are dropped, or with {@code evictOldest} the arrays become a ring that
+ * keeps the most recent {@code maxTicks} ticks. Getters always return ticks in chronological order.
+ */
+public final class TickTimeline {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final String worldName;
+    private final int maxTicks;
+    private final boolean evictOldest;
+    // Converts System.nanoTime() based tick timestamps to epoch nanos
+    private final long epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+    private long[] timestamps;
+    private long[] durations;
+    private int head;
+    private int size;
+    private long droppedTicks;
+    private long evictedTicks;
+    private long cursor;
+
+    public TickTimeline(String worldName, int maxTicks, boolean evictOldest, long startSequence) {
+        this.worldName = worldName;
+        this.maxTicks = maxTicks;
+        this.evictOldest = evictOldest;
+        this.timestamps = new long[Math.min(INITIAL_CAPACITY, maxTicks)];
+        this.durations = new long[timestamps.length];
+        this.cursor = startSequence;
+    }
+
+    /**
+     * Appends everything recorded in {@code ring} since the previous call.
+     */
+    public synchronized void drain(TickSampleRing ring) {
+        if (cursor > ring.nextSequence()) {
+            // The world was unloaded and loaded again with a fresh ring
+            cursor = 0L;
+        }
+        TickSampleRing.Samples samples = ring.since(cursor);
+        cursor = samples.nextSequence();
+        droppedTicks += samples.dropped();
+
+        int count = samples.size();
+        if (evictOldest) {
+            // Only the newest maxTicks can survive, so older ticks of a large batch are evicted unwritten
+            int first = Math.max(0, count - maxTicks);
+            evictedTicks += first;
+            for (int i = first; i < count; i++) {
+                append(samples.timestamps()[i], samples.durations()[i]);
+            }
+            return;
+        }
+        int accepted = Math.min(count, maxTicks - size);
+        if (accepted < count) {
+            droppedTicks += count - accepted;
+        }
+        if (accepted <= 0) {
+            return;
+        }
+        ensureCapacity(size + accepted);
+        System.arraycopy(samples.timestamps(), 0, timestamps, size, accepted);
+        System.arraycopy(samples.durations(), 0, durations, size, accepted);
+        size += accepted;
+    }
+
+    private void append(long timestampNanos, long durationNanos) {
+        int slot;
+        if (size == maxTicks) {
+            // Arrays are at maxTicks by now, and the ring only wraps once full
+            slot = head;
+            head = (head + 1) % timestamps.length;
+            evictedTicks++;
+        } else {
+            ensureCapacity(size + 1);
+            slot = size++;
+        }
+        timestamps[slot] = timestampNanos;
+        durations[slot] = durationNanos;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= timestamps.length) {
+            return;
+        }
+        int newCapacity = Math.max(required, Math.min(maxTicks, timestamps.length * 2));
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        durations = Arrays.copyOf(durations, newCapacity);
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public long getEpochOffsetNanos() {
+        return epochOffsetNanos;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /**
+     * Oldest ticks overwritten by newer ones with {@code evictOldest}.
+     */
+    public synchronized long getEvictedTicks() {
+        return evictedTicks;
+    }
+
+    public synchronized long[] getTimestamps() {
+        return unroll(timestamps);
+    }
+
+    public synchronized long[] getDurations() {
+        return unroll(durations);
+    }
+
+    private long[] unroll(long[] column) {
+        long[] copy = new long[size];
+        int tail = Math.min(size, column.length - head);
+        System.arraycopy(column, head, copy, 0, tail);
+        System.arraycopy(column, 0, copy, tail, size - tail);
+        return copy;
+    }
+}
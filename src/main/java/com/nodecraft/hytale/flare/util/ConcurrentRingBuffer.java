@@ -0,0 +1,86 @@
+package com.nodecraft.hytale.flare.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer that keeps the most recent entries.
+ *
+ * Every entry is tagged with a monotonically increasing sequence number so readers can
+ * ask for "everything after sequence N" without a lock and without seeing torn slots.
+ * Old entries are silently overwritten once the buffer wraps.
+ */
+public final class ConcurrentRingBuffer<T> {
+    private final AtomicReferenceArray<Entry<T>> slots;
+    private final AtomicLong nextSequence = new AtomicLong(1L);
+    private final int mask;
+
+    public ConcurrentRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Appends a value and returns the sequence number assigned to it.
+     */
+    public long add(T value) {
+        long sequence = nextSequence.getAndIncrement();
+        slots.set((int) (sequence & mask), new Entry<>(sequence, value));
+        return sequence;
+    }
+
+    /**
+     * Returns the sequence number of the last value added, or 0 if nothing was added yet.
+     */
+    public long lastSequence() {
+        return nextSequence.get() - 1L;
+    }
+
+    /**
+     * Returns the retained values with a sequence greater than {@code afterSequence}, oldest first.
+     */
+    public List<T> since(long afterSequence) {
+        return between(afterSequence, lastSequence());
+    }
+
+    /**
+     * Returns the retained values with a sequence in {@code (afterSequence, lastSequence]}, oldest first.
+     */
+    public List<T> between(long afterSequence, long lastSequence) {
+        long last = Math.min(lastSequence, lastSequence());
+        long first = Math.max(afterSequence + 1L, last - mask);
+        if (first > last) {
+            return List.of();
+        }
+        List<T> values = new ArrayList<>((int) (last - first + 1L));
+        for (long sequence = first; sequence <= last; sequence++) {
+            Entry<T> entry = slots.get((int) (sequence & mask));
+            if (entry != null && entry.sequence() == sequence) {
+                values.add(entry.value());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns up to {@code count} of the most recent values, oldest first.
+     */
+    public List<T> latest(int count) {
+        return since(lastSequence() - count);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private record Entry<T>(long sequence, T value) {}
+}
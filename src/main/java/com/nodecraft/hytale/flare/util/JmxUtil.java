@@ -1,11 +1,32 @@
 package com.nodecraft.hytale.flare.util;
 
+import javax.management.ObjectName;
 import java.lang.management.ManagementFactory;
 import java.lang.management.OperatingSystemMXBean;
 
 public final class JmxUtil {
+    private static final String DIAGNOSTIC_COMMAND_MBEAN = "com.sun.management:type=DiagnosticCommand";
+
     private JmxUtil() {}
 
+    /**
+     * Runs a HotSpot diagnostic command (the JMX form of {@code jcmd}, e.g. {@code vmNativeMemory} for
+     * {@code VM.native_memory}) and returns its text output, or null if the command is unavailable.
+     */
+    public static String invokeDiagnosticCommand(String operation, String... arguments) {
+        try {
+            Object result = ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName(DIAGNOSTIC_COMMAND_MBEAN),
+                    operation,
+                    new Object[]{arguments},
+                    new String[]{String[].class.getName()}
+            );
+            return result != null ? result.toString() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     public static OperatingSystemMXBean getOperatingSystemMXBean() {
         return ManagementFactory.getOperatingSystemMXBean();
     }
@@ -27,4 +48,22 @@ public final class JmxUtil {
         }
         return -1.0;
     }
+
+    /**
+     * Number of open file descriptors (the entries of {@code /proc/self/fd} on Linux), or -1 where the
+     * platform doesn't report it.
+     */
+    public static long getOpenFileDescriptorCount(OperatingSystemMXBean bean) {
+        if (bean instanceof com.sun.management.UnixOperatingSystemMXBean unixBean) {
+            return unixBean.getOpenFileDescriptorCount();
+        }
+        return -1L;
+    }
+
+    public static long getMaxFileDescriptorCount(OperatingSystemMXBean bean) {
+        if (bean instanceof com.sun.management.UnixOperatingSystemMXBean unixBean) {
+            return unixBean.getMaxFileDescriptorCount();
+        }
+        return -1L;
+    }
 }
@@ -0,0 +1,163 @@
+package com.nodecraft.hytale.flare.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size log-linear histogram (HDR-style) for non-negative long values.
+ *
+ * Values are grouped by power of two, and each power of two is split into
+ * {@code 2^subBucketBits} linear sub-buckets, so relative error is bounded by
+ * {@code 1 / 2^subBucketBits}. Recording is lock-free and allocation-free;
+ * histograms with the same layout can be merged.
+ */
+public final class LogLinearHistogram {
+    public static final int DEFAULT_SUB_BUCKET_BITS = 4;
+    public static final int DEFAULT_MAX_EXPONENT = 36; // ~68 seconds in nanos
+    public static final int DURATION_SUB_BUCKET_BITS = 3;
+    public static final int DURATION_MAX_EXPONENT = 34; // ~17 seconds in nanos
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int maxExponent;
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    public LogLinearHistogram() {
+        this(DEFAULT_SUB_BUCKET_BITS, DEFAULT_MAX_EXPONENT);
+    }
+
+    /**
+     * Creates a histogram with the layout shared by the duration histograms (ticks, systems, queue
+     * latency, safepoints): 12.5% bucket precision up to ~17s keeps each one around 2KB.
+     */
+    public static LogLinearHistogram forDurations() {
+        return new LogLinearHistogram(DURATION_SUB_BUCKET_BITS, DURATION_MAX_EXPONENT);
+    }
+
+    public LogLinearHistogram(int subBucketBits, int maxExponent) {
+        if (subBucketBits < 1 || subBucketBits > 10) {
+            throw new IllegalArgumentException("subBucketBits must be between 1 and 10");
+        }
+        if (maxExponent < subBucketBits || maxExponent > 62) {
+            throw new IllegalArgumentException("maxExponent must be between subBucketBits and 62");
+        }
+        this.subBucketBits = subBucketBits;
+        this.subBucketCount = 1 << subBucketBits;
+        this.maxExponent = maxExponent;
+        this.counts = new AtomicLongArray((maxExponent - subBucketBits + 2) * subBucketCount);
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        sum.addAndGet(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds all counts from {@code other} into this histogram. Both histograms must share the same layout.
+     */
+    public void merge(LogLinearHistogram other) {
+        if (other.subBucketBits != subBucketBits || other.maxExponent != maxExponent) {
+            throw new IllegalArgumentException("Cannot merge histograms with different layouts");
+        }
+        long otherCount = other.totalCount.get();
+        if (otherCount == 0) {
+            return;
+        }
+        for (int i = 0; i < counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(otherCount);
+        sum.addAndGet(other.sum.get());
+        min.accumulateAndGet(other.min.get(), Math::min);
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.set(0L);
+        sum.set(0L);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * Creates an empty histogram with the same layout as this one.
+     */
+    public LogLinearHistogram emptyCopy() {
+        return new LogLinearHistogram(subBucketBits, maxExponent);
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMin() {
+        return totalCount.get() > 0 ? min.get() : 0L;
+    }
+
+    public long getMax() {
+        return totalCount.get() > 0 ? max.get() : 0L;
+    }
+
+    public double getMean() {
+        long count = totalCount.get();
+        return count > 0 ? sum.get() / (double) count : 0.0;
+    }
+
+    /**
+     * Returns the highest value equivalent to the given percentile (0-100), clamped to the recorded max.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0L;
+        }
+        double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+        long target = Math.max(1L, (long) Math.ceil(clamped / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    private int bucketIndex(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > maxExponent) {
+            return counts.length() - 1;
+        }
+        int shift = exponent - subBucketBits;
+        int subBucket = (int) (value >>> shift) - subBucketCount;
+        return (shift + 1) * subBucketCount + subBucket;
+    }
+
+    private long bucketUpperBound(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = index / subBucketCount - 1;
+        long mantissa = (index % subBucketCount) + subBucketCount;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
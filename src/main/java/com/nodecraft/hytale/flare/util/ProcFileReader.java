@@ -0,0 +1,226 @@
+package com.nodecraft.hytale.flare.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads small kernel files ({@code /proc}, {@code /sys/fs/cgroup}) into a reusable buffer and parses
+ * {@code key value} fields straight from the bytes, so polling them builds no strings or line arrays.
+ * Each {@link #read(Path)} still opens a short-lived {@link FileChannel}; kernel files must be reopened
+ * to get fresh content.
+ *
+ * Not thread-safe; each owner keeps its own reader.
+ */
+public final class ProcFileReader {
+    public static final long MISSING = -1L;
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private int length;
+
+    public ProcFileReader(int capacity) {
+        this.bytes = new byte[capacity];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Loads {@code path} into the buffer; content beyond the capacity is ignored.
+     */
+    public boolean read(Path path) {
+        buffer.clear();
+        length = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // Kernel files may return their content over several reads
+            }
+            length = buffer.position();
+            return true;
+        } catch (IOException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parses the first token of the file as a number, e.g. {@code memory.current}. Returns
+     * {@link #UNLIMITED} for {@code max} and {@link #MISSING} if there is no number.
+     */
+    public long firstLong() {
+        return parseLongAt(skipSpaces(0));
+    }
+
+    /**
+     * Parses the token after the first token, e.g. the period in {@code cpu.max}.
+     */
+    public long secondLong() {
+        int position = skipSpaces(0);
+        while (position < length && !isSpace(bytes[position])) {
+            position++;
+        }
+        return parseLongAt(skipSpaces(position));
+    }
+
+    /**
+     * Returns the value of the line {@code key value}, e.g. {@code nr_throttled 12} in {@code cpu.stat}.
+     */
+    public long longField(String key) {
+        int lineStart = findLine(key);
+        if (lineStart < 0) {
+            return MISSING;
+        }
+        return parseLongAt(skipSpaces(lineStart + key.length()));
+    }
+
+    /**
+     * Returns {@code name=value} from the line starting with {@code linePrefix}, as in the pressure
+     * files ({@code some avg10=1.50 avg60=0.75 avg300=0.20 total=12345}), or NaN if missing.
+     */
+    public double doubleAttribute(String linePrefix, String name) {
+        int position = attributeValue(linePrefix, name);
+        if (position < 0) {
+            return Double.NaN;
+        }
+        long whole = 0L;
+        while (position < length && isDigit(bytes[position])) {
+            whole = whole * 10 + (bytes[position++] - '0');
+        }
+        double fraction = 0.0;
+        if (position < length && bytes[position] == '.') {
+            position++;
+            double scale = 0.1;
+            while (position < length && isDigit(bytes[position])) {
+                fraction += (bytes[position++] - '0') * scale;
+                scale /= 10.0;
+            }
+        }
+        return whole + fraction;
+    }
+
+    /**
+     * Integer form of {@link #doubleAttribute(String, String)}, e.g. the stall {@code total}.
+     */
+    public long longAttribute(String linePrefix, String name) {
+        int position = attributeValue(linePrefix, name);
+        return position < 0 ? MISSING : parseLongAt(position);
+    }
+
+    /**
+     * Fills {@code values} with the numbers following column {@code keyColumn} (zero-based) on the first
+     * line where that column equals {@code key}, as in {@code /proc/diskstats} where column 2 is the
+     * device name. Columns missing from the line are set to {@link #MISSING}.
+     */
+    public boolean columnsAfter(int keyColumn, String key, long[] values) {
+        int lineStart = 0;
+        while (lineStart < length) {
+            int position = skipInlineSpaces(lineStart);
+            for (int column = 0; column < keyColumn && position < length && bytes[position] != '\n'; column++) {
+                position = skipInlineSpaces(skipToken(position));
+            }
+            int tokenEnd = skipToken(position);
+            if (tokenEnd - position == key.length() && matches(position, key)) {
+                position = tokenEnd;
+                for (int i = 0; i < values.length; i++) {
+                    position = skipInlineSpaces(position);
+                    values[i] = position < length && bytes[position] != '\n' ? parseLongAt(position) : MISSING;
+                    position = skipToken(position);
+                }
+                return true;
+            }
+            while (lineStart < length && bytes[lineStart] != '\n') {
+                lineStart++;
+            }
+            lineStart++;
+        }
+        return false;
+    }
+
+    private int skipToken(int position) {
+        while (position < length && !isSpace(bytes[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    private int skipInlineSpaces(int position) {
+        while (position < length && (bytes[position] == ' ' || bytes[position] == '\t')) {
+            position++;
+        }
+        return position;
+    }
+
+    private int attributeValue(String linePrefix, String name) {
+        int lineStart = findLine(linePrefix);
+        if (lineStart < 0) {
+            return -1;
+        }
+        int lineEnd = lineStart;
+        while (lineEnd < length && bytes[lineEnd] != '\n') {
+            lineEnd++;
+        }
+        for (int i = lineStart + linePrefix.length(); i + name.length() < lineEnd; i++) {
+            if (isSpace(bytes[i - 1]) && matches(i, name) && bytes[i + name.length()] == '=') {
+                return i + name.length() + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the start of the line whose first token is {@code key}, or -1.
+     */
+    private int findLine(String key) {
+        int lineStart = 0;
+        while (lineStart < length) {
+            int end = lineStart + key.length();
+            if (end <= length && matches(lineStart, key) && (end == length || isSpace(bytes[end]))) {
+                return lineStart;
+            }
+            while (lineStart < length && bytes[lineStart] != '\n') {
+                lineStart++;
+            }
+            lineStart++;
+        }
+        return -1;
+    }
+
+    private boolean matches(int position, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (bytes[position + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseLongAt(int position) {
+        if (position + 3 <= length && matches(position, "max")) {
+            return UNLIMITED;
+        }
+        if (position >= length || !isDigit(bytes[position])) {
+            return MISSING;
+        }
+        long value = 0L;
+        while (position < length && isDigit(bytes[position])) {
+            value = value * 10 + (bytes[position++] - '0');
+        }
+        return value;
+    }
+
+    private int skipSpaces(int position) {
+        while (position < length && isSpace(bytes[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
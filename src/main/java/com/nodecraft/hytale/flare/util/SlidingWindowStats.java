@@ -0,0 +1,138 @@
+package com.nodecraft.hytale.flare.util;
+
+import com.nodecraft.hytale.flare.model.WindowStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free sliding-window statistics for a double gauge (TPS, CPU load, heap usage, ...).
+ *
+ * Samples land in time buckets of {@code bucketNanos}; a ring of buckets covers the longest window.
+ * Count and sum are striped adders and min/max are CAS-updated, so any number of threads can record
+ * and read concurrently. Windows are exact at bucket granularity and nothing accumulates past the
+ * ring, so the values stay meaningful after days of uptime.
+ */
+public final class SlidingWindowStats {
+    private final long bucketNanos;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public SlidingWindowStats(long bucketNanos, int bucketCount) {
+        if (bucketNanos <= 0L || bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketNanos and bucketCount must be positive");
+        }
+        this.bucketNanos = bucketNanos;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public void record(double value) {
+        record(System.nanoTime(), value);
+    }
+
+    public void record(long timestampNanos, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        long epoch = Math.floorDiv(timestampNanos, bucketNanos);
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch == epoch) {
+                bucket.add(value);
+                return;
+            }
+            if (bucket != null && bucket.epoch > epoch) {
+                // Older than the ring can hold
+                return;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                fresh.add(value);
+                return;
+            }
+        }
+    }
+
+    public WindowStats snapshot(long windowNanos) {
+        return snapshot(System.nanoTime(), windowNanos);
+    }
+
+    /**
+     * Aggregates every bucket overlapping {@code (nowNanos - windowNanos, nowNanos]}.
+     */
+    public WindowStats snapshot(long nowNanos, long windowNanos) {
+        long nowEpoch = Math.floorDiv(nowNanos, bucketNanos);
+        long bucketsInWindow = Math.min(buckets.length(), Math.max(1L, (windowNanos + bucketNanos - 1) / bucketNanos));
+        long oldestEpoch = nowEpoch - bucketsInWindow + 1;
+
+        long count = 0L;
+        double sum = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket == null || bucket.epoch < oldestEpoch || bucket.epoch > nowEpoch) {
+                continue;
+            }
+            long bucketCount = bucket.count.sum();
+            if (bucketCount == 0L) {
+                continue;
+            }
+            count += bucketCount;
+            sum += bucket.sum.sum();
+            min = Math.min(min, Double.longBitsToDouble(bucket.minBits.get()));
+            max = Math.max(max, Double.longBitsToDouble(bucket.maxBits.get()));
+        }
+
+        if (count == 0L) {
+            return WindowStats.EMPTY;
+        }
+        return new WindowStats(count, min, max, sum / count);
+    }
+
+    public long getCapacityNanos() {
+        return bucketNanos * buckets.length();
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+        private final AtomicLong minBits = new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        private final AtomicLong maxBits = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void add(double value) {
+            sum.add(value);
+            updateMin(value);
+            updateMax(value);
+            // Count last so readers that see it also see the value in min/max
+            count.increment();
+        }
+
+        private void updateMin(double value) {
+            long current = minBits.get();
+            while (value < Double.longBitsToDouble(current)) {
+                if (minBits.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+                    return;
+                }
+                current = minBits.get();
+            }
+        }
+
+        private void updateMax(double value) {
+            long current = maxBits.get();
+            while (value > Double.longBitsToDouble(current)) {
+                if (maxBits.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+                    return;
+                }
+                current = maxBits.get();
+            }
+        }
+    }
+}
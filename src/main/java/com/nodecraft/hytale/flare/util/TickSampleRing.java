@@ -0,0 +1,94 @@
+package com.nodecraft.hytale.flare.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Preallocated ring of (timestamp, duration) tick samples stored in primitive arrays.
+ *
+ * There must be a single writer at a time; {@link #record(long, long)} is two array stores and an
+ * ordered write, with no allocation. Readers never block the writer: they copy a range and then drop
+ * any samples the writer may have overwritten while they were copying.
+ */
+public final class TickSampleRing {
+    private final long[] timestamps;
+    private final long[] durations;
+    private final int mask;
+    private final AtomicLong published = new AtomicLong();
+
+    public TickSampleRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.timestamps = new long[size];
+        this.durations = new long[size];
+        this.mask = size - 1;
+    }
+
+    public void record(long timestampNanos, long durationNanos) {
+        long sequence = published.get();
+        int index = (int) (sequence & mask);
+        timestamps[index] = timestampNanos;
+        durations[index] = durationNanos;
+        published.lazySet(sequence + 1L);
+    }
+
+    /**
+     * Returns the sequence the next recorded sample will get; pass it to {@link #since(long)} as a cursor.
+     */
+    public long nextSequence() {
+        return published.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Copies every retained sample with a sequence at or after {@code fromSequence}.
+     */
+    public Samples since(long fromSequence) {
+        long end = published.get();
+        long start = Math.max(fromSequence, end - capacity());
+        if (start >= end) {
+            return new Samples(end, new long[0], new long[0], Math.max(0L, start - fromSequence));
+        }
+
+        int length = (int) (end - start);
+        long[] timestampCopy = new long[length];
+        long[] durationCopy = new long[length];
+        for (int i = 0; i < length; i++) {
+            int index = (int) ((start + i) & mask);
+            timestampCopy[i] = timestamps[index];
+            durationCopy[i] = durations[index];
+        }
+
+        // The writer may have lapped us while copying; the slot it is filling now is also unsafe
+        long firstValid = published.get() - capacity() + 1L;
+        int skip = (int) Math.max(0L, Math.min(length, firstValid - start));
+        if (skip > 0) {
+            timestampCopy = Arrays.copyOfRange(timestampCopy, skip, length);
+            durationCopy = Arrays.copyOfRange(durationCopy, skip, length);
+        }
+        return new Samples(end, timestampCopy, durationCopy, start + skip - fromSequence);
+    }
+
+    /**
+     * A copied range of samples. {@code nextSequence} is the cursor for the following read and
+     * {@code dropped} counts samples that were overwritten before they could be read.
+     */
+    public record Samples(
+            long nextSequence,
+            long[] timestamps,
+            long[] durations,
+            long dropped
+    ) {
+        public int size() {
+            return timestamps.length;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nodecraft.hytale.flare.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding-window histogram built from a ring of time-sliced {@link LogLinearHistogram}s.
+ *
+ * Each slot covers {@code slotNanos} of monotonic time; windows are answered by merging the
+ * slots that fall inside them, so window edges have slot granularity. Intended for a single
+ * writer with any number of readers.
+ */
+public final class WindowedHistogram {
+    private final long slotNanos;
+    private final LogLinearHistogram[] slots;
+    private final AtomicLongArray slotEpochs;
+
+    public WindowedHistogram(long slotNanos, int slotCount) {
+        this(slotNanos, slotCount, new LogLinearHistogram());
+    }
+
+    public WindowedHistogram(long slotNanos, int slotCount, LogLinearHistogram layout) {
+        if (slotNanos <= 0L || slotCount <= 0) {
+            throw new IllegalArgumentException("slotNanos and slotCount must be positive");
+        }
+        this.slotNanos = slotNanos;
+        this.slots = new LogLinearHistogram[slotCount];
+        this.slotEpochs = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = layout.emptyCopy();
+            slotEpochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    public void record(long timestampNanos, long value) {
+        long epoch = Math.floorDiv(timestampNanos, slotNanos);
+        int index = (int) Math.floorMod(epoch, (long) slots.length);
+        long current = slotEpochs.get(index);
+        if (current != epoch) {
+            if (current > epoch) {
+                // Older than anything the slot can hold any more
+                return;
+            }
+            slots[index].reset();
+            slotEpochs.set(index, epoch);
+        }
+        slots[index].record(value);
+    }
+
+    /**
+     * Merges every slot that overlaps {@code (nowNanos - windowNanos, nowNanos]} into a new histogram.
+     */
+    public LogLinearHistogram snapshot(long nowNanos, long windowNanos) {
+        LogLinearHistogram merged = slots[0].emptyCopy();
+        long nowEpoch = Math.floorDiv(nowNanos, slotNanos);
+        long slotsInWindow = Math.min(slots.length, Math.max(1L, (windowNanos + slotNanos - 1) / slotNanos));
+        long oldestEpoch = nowEpoch - slotsInWindow + 1;
+        for (int i = 0; i < slots.length; i++) {
+            long epoch = slotEpochs.get(i);
+            if (epoch >= oldestEpoch && epoch <= nowEpoch) {
+                merged.merge(slots[i]);
+            }
+        }
+        return merged;
+    }
+
+    public long getWindowCapacityNanos() {
+        return slotNanos * slots.length;
+    }
+}